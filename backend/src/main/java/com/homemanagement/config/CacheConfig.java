@@ -0,0 +1,45 @@
+package com.homemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.homemanagement.security.AuthenticationCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * In-process Caffeine caches.
+ * Evictions issued inside a transaction are deferred until it commits, so a
+ * concurrent request cannot re-cache the state that is being replaced.
+ * Every cache records statistics, which Actuator publishes as cache.gets / cache.evictions metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.user-details.maximum-size}") long userDetailsMaximumSize,
+            @Value("${cache.user-details.ttl}") Duration userDetailsTtl,
+            @Value("${cache.token-versions.maximum-size}") long tokenVersionsMaximumSize,
+            @Value("${cache.token-versions.ttl}") Duration tokenVersionsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(AuthenticationCache.USER_DETAILS, Caffeine.newBuilder()
+                .maximumSize(userDetailsMaximumSize)
+                .expireAfterWrite(userDetailsTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(AuthenticationCache.TOKEN_VERSIONS, Caffeine.newBuilder()
+                .maximumSize(tokenVersionsMaximumSize)
+                .expireAfterWrite(tokenVersionsTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
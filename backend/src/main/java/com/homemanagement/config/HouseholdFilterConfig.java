@@ -0,0 +1,36 @@
+package com.homemanagement.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Confines every repository to the household of the authenticated user (see {@link HouseholdFilterInterceptor}).
+ */
+@Configuration
+public class HouseholdFilterConfig {
+
+    /**
+     * Adds the interceptor to each repository as it is created, inside its transaction interceptor.
+     * Static, as bean post-processors are created before the other beans of this class.
+     */
+    @Bean
+    public static BeanPostProcessor householdFilterRepositoryPostProcessor(
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    HouseholdFilterInterceptor interceptor = new HouseholdFilterInterceptor(entityManagerFactory);
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(interceptor)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.homemanagement.config;
+
+import com.homemanagement.domain.Household;
+import com.homemanagement.domain.HouseholdScoped;
+import com.homemanagement.security.HouseholdContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import java.util.Optional;
+
+/**
+ * Enables the household filter on the session of a repository call made for an authenticated user,
+ * so entity queries only return rows of the user's household. Native SQL is not filtered and must
+ * restrict the household itself.
+ * <p>
+ * The filter needs the session the query will run in: the one of the surrounding transaction, or the
+ * one bound to the web request by open-in-view. Calls with neither are refused rather than left unfiltered.
+ * Loading by id bypasses filters, so {@code findById} results of another household are dropped here.
+ * Calls outside a request, such as scheduled jobs, are not filtered.
+ */
+class HouseholdFilterInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    HouseholdFilterInterceptor(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Long householdId = HouseholdContext.currentHouseholdId();
+        if (householdId == null) {
+            return invocation.proceed();
+        }
+
+        EntityManager entityManager =
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject());
+        if (entityManager == null) {
+            throw new IllegalStateException("No session to enable the household filter on for "
+                    + invocation.getMethod().getName() + "; call repositories inside a transaction");
+        }
+        entityManager.unwrap(Session.class)
+                .enableFilter(Household.FILTER)
+                .setParameter(Household.FILTER_PARAMETER, householdId);
+
+        Object result = invocation.proceed();
+        if (invocation.getMethod().getName().equals("findById") && result instanceof Optional<?> found
+                && found.orElse(null) instanceof HouseholdScoped entity
+                && !householdId.equals(entity.getHouseholdId())) {
+            return Optional.empty();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.homemanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Application metrics beyond the ones Actuator binds by itself.
+ * Endpoint timers ({@code http.server.requests}), repository timers ({@code spring.data.repository.invocations}),
+ * connection pool gauges ({@code hikaricp.connections.*}) and cache metrics are auto-configured;
+ * this adds the number and database time of the SQL statements per request, and warns about expensive requests.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, StatementTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.requests.warn-statements}") int warnStatements,
+            @Value("${monitoring.requests.warn-statement-time}") Duration warnStatementTime,
+            @Value("${monitoring.requests.warn-repeated-statements}") int warnRepeatedStatements) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new RequestStatisticsFilter(meterRegistry, warnStatements, warnStatementTime, warnRepeatedStatements));
+        // Outside the security filters, so statements of the authentication lookup count too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
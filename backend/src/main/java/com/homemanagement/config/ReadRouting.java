@@ -0,0 +1,35 @@
+package com.homemanagement.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps read-only work on the primary database when a replica is configured (see {@link ReplicaDataSourceConfig});
+ * without a replica everything runs on the primary anyway.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Run reads on the primary, for results that must be at least as recent as state kept in memory,
+     * such as the todo versions that listings are tagged with. Transactions must begin inside.
+     */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            }
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY.get() != null;
+    }
+}
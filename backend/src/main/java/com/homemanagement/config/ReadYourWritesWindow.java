@@ -0,0 +1,58 @@
+package com.homemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers the users who committed a read-write transaction within the window, so that their reads
+ * keep going to the primary until the replica has caught up with their own changes.
+ * Other users may see those changes only after the replication lag. The window is kept per
+ * application instance; clients should stay on one instance (or the window be widened) to rely on it.
+ */
+class ReadYourWritesWindow implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    ReadYourWritesWindow(Duration window, long maximumUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumUsers)
+                .build();
+    }
+
+    /**
+     * Only called for outermost transactions, after they have committed.
+     */
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            String username = currentUsername();
+            if (username != null) {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Whether the authenticated user committed a write within the window.
+     */
+    boolean isOpen() {
+        String username = currentUsername();
+        return username != null && recentWriters.getIfPresent(username) != null;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,33 @@
+package com.homemanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes the connections of read-only transactions to the replica, except for users within their
+ * {@link ReadYourWritesWindow} and reads kept on the primary by {@link ReadRouting}; all other
+ * connections go to the primary.
+ * The transaction's read-only flag is only set once it has begun, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}, which asks for the connection at the first statement.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    ReplicaRoutingDataSource(ReadYourWritesWindow readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadRouting.isPrimaryRequired()
+                && !readYourWritesWindow.isOpen()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,120 @@
+package com.homemanagement.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statements issued on the current thread between {@link #start(String)} and {@link #finish()},
+ * usually during one HTTP request (see {@link RequestStatisticsFilter}).
+ * <p>
+ * Statistics can be nested: finishing an inner one (a request) adds it to the {@linkplain #getCompleted()
+ * completed list} of the enclosing one, which lets a test check every request it performs.
+ * Statements on threads without open statistics (scheduled jobs, async work) are not recorded.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final RequestStatistics enclosing;
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private final List<RequestStatistics> completed = new ArrayList<>();
+    private String name;
+    private int statements;
+    private long executionNanos;
+
+    private RequestStatistics(String name, RequestStatistics enclosing) {
+        this.name = name;
+        this.enclosing = enclosing;
+    }
+
+    /**
+     * Start recording the statements of the current thread.
+     *
+     * @param name What is being recorded, e.g. {@code GET /api/todos}
+     */
+    public static RequestStatistics start(String name) {
+        RequestStatistics statistics = new RequestStatistics(name, CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * The statistics being recorded on the current thread, or null.
+     */
+    static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop recording and return to the enclosing statistics, if any.
+     */
+    public RequestStatistics finish() {
+        if (enclosing != null) {
+            enclosing.completed.add(this);
+            CURRENT.set(enclosing);
+        } else {
+            CURRENT.remove();
+        }
+        return this;
+    }
+
+    /**
+     * Rename the statistics, e.g. once the request has been mapped to its URI template.
+     */
+    void setName(String name) {
+        this.name = name;
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    void executed(long nanos) {
+        executionNanos += nanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Time spent executing statements and batches in the database driver.
+     */
+    public Duration getExecutionTime() {
+        return Duration.ofNanos(executionNanos);
+    }
+
+    /**
+     * The statement issued most often, with its count; repeats of one select usually mean an N+1 pattern.
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return countsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /**
+     * Nested statistics finished while this one was recorded, in order.
+     */
+    public List<RequestStatistics> getCompleted() {
+        return Collections.unmodifiableList(completed);
+    }
+
+    @Override
+    public String toString() {
+        Map.Entry<String, Integer> mostRepeated = getMostRepeated();
+        return name + ": " + statements + " statements in " + getExecutionTime().toMillis() + " ms"
+                + (mostRepeated != null && mostRepeated.getValue() > 1
+                        ? ", most repeated (" + mostRepeated.getValue() + "x): " + mostRepeated.getKey()
+                        : "");
+    }
+}
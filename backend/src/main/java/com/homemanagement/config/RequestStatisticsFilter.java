@@ -0,0 +1,83 @@
+package com.homemanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Records the SQL statements of each request (see {@link RequestStatistics}):
+ * their number as the {@code http.server.requests.statements} distribution and their database time as the
+ * {@code http.server.requests.statements.time} timer, both tagged with the method and URI template.
+ * Requests over one of the thresholds are logged as warnings.
+ * Only statements on the request thread count; streamed response bodies written later are not included.
+ */
+@Slf4j
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnStatements;
+    private final Duration warnStatementTime;
+    private final int warnRepeatedStatements;
+
+    /**
+     * @param warnStatements         Statement count above which a request is logged
+     * @param warnStatementTime      Database time above which a request is logged
+     * @param warnRepeatedStatements Executions of one statement above which a request is logged (N+1 selects)
+     */
+    public RequestStatisticsFilter(MeterRegistry meterRegistry, int warnStatements, Duration warnStatementTime,
+                                   int warnRepeatedStatements) {
+        this.meterRegistry = meterRegistry;
+        this.warnStatements = warnStatements;
+        this.warnStatementTime = warnStatementTime;
+        this.warnRepeatedStatements = warnRepeatedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            statistics.setName(request.getMethod() + " " + uri);
+            statistics.finish();
+            record(request.getMethod(), uri, statistics);
+        }
+    }
+
+    private void record(String method, String uri, RequestStatistics statistics) {
+        DistributionSummary.builder(METRIC_NAME)
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        Timer.builder(METRIC_NAME + ".time")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getExecutionTime());
+
+        Map.Entry<String, Integer> mostRepeated = statistics.getMostRepeated();
+        if (statistics.getStatements() > warnStatements
+                || statistics.getExecutionTime().compareTo(warnStatementTime) > 0
+                || (mostRepeated != null && mostRepeated.getValue() > warnRepeatedStatements)) {
+            log.warn("Expensive request {}", statistics);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.homemanagement.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every SQL statement Hibernate prepares in the {@link RequestStatistics} of the current thread.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,39 @@
+package com.homemanagement.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the JDBC execution time of statements and batches to the {@link RequestStatistics} of the current thread.
+ * Hibernate creates one instance per session (see {@code hibernate.session.events.auto}).
+ */
+public class StatementTimingListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.executed(System.nanoTime() - executionStart);
+        }
+    }
+}
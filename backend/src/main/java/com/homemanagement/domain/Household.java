@@ -0,0 +1,44 @@
+package com.homemanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A household sharing one deployment with others: its users, todos and recurring todos
+ * carry its id and are hidden from other households by the {@link #FILTER} filter.
+ */
+@Entity
+@Table(name = "households")
+@Data
+@NoArgsConstructor
+public class Household {
+
+    /**
+     * Hibernate filter restricting queries to the rows of one household, defined in {@code package-info.java}.
+     */
+    public static final String FILTER = "householdFilter";
+    public static final String FILTER_PARAMETER = "householdId";
+
+    /**
+     * Household of data created before there were households, and of users created without one.
+     * Created at startup by {@code DatabaseInitializer}.
+     */
+    public static final long DEFAULT_ID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
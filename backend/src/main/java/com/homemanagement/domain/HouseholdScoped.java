@@ -0,0 +1,9 @@
+package com.homemanagement.domain;
+
+/**
+ * An entity belonging to one household, stored in its {@code household_id} column.
+ */
+public interface HouseholdScoped {
+
+    Long getHouseholdId();
+}
@@ -0,0 +1,103 @@
+package com.homemanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A todo that repeats: the template of its occurrences and when they fall due.
+ * Occurrences are created as ordinary todos ahead of their due date (see RecurrenceScheduler).
+ */
+@Entity
+@Table(name = "recurrence_rules", indexes = {
+        @Index(name = "idx_recurrence_rules_next", columnList = "next_occurrence"),
+        @Index(name = "idx_recurrence_rules_user", columnList = "user_id")
+})
+@Filter(name = Household.FILTER)
+@Data
+@NoArgsConstructor
+public class RecurrenceRule implements HouseholdScoped {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Todo.TodoCategory category;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User assignedTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Frequency frequency;
+
+    /**
+     * Number of frequency units between occurrences, e.g. 2 with WEEKLY for every other week.
+     */
+    @Column(name = "repeat_interval", nullable = false)
+    private int interval = 1;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    /**
+     * Last day an occurrence may fall on; null repeats forever.
+     */
+    private LocalDate endDate;
+
+    /**
+     * Due date of the first occurrence not created yet; null once the rule has ended.
+     */
+    private LocalDate nextOccurrence;
+
+    /**
+     * Household of the assignee, copied to the occurrences.
+     */
+    @Column(name = "household_id", nullable = false)
+    @ColumnDefault("1")
+    private Long householdId = Household.DEFAULT_ID;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * The first occurrence after the given date, or null if it would fall after the end date.
+     * Occurrences are counted from the start date, so monthly rules keep their day of the month
+     * (the 31st falls on the last day of shorter months).
+     */
+    public LocalDate occurrenceAfter(LocalDate date) {
+        long count = date.isBefore(startDate) ? 0 : frequency.unit.between(startDate, date) / interval;
+        LocalDate occurrence = startDate.plus(count * interval, frequency.unit);
+        while (!occurrence.isAfter(date)) {
+            count++;
+            occurrence = startDate.plus(count * interval, frequency.unit);
+        }
+        return endDate != null && occurrence.isAfter(endDate) ? null : occurrence;
+    }
+
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS), WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS), YEARLY(ChronoUnit.YEARS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+}
@@ -4,16 +4,34 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_user_status_due", columnList = "user_id, status, due_date, id"),
+        @Index(name = "idx_todos_user_due", columnList = "user_id, due_date, id"),
+        @Index(name = "idx_todos_household_due", columnList = "household_id, due_date, id"),
+        @Index(name = "idx_todos_due", columnList = "due_date, id"),
+        @Index(name = "idx_todos_user_modified", columnList = "user_id, last_modified"),
+        @Index(name = "idx_todos_modified", columnList = "last_modified")
+}, uniqueConstraints = {
+        // One todo per occurrence of a recurrence rule, so creating occurrences again is harmless;
+        // includes the partition key, as unique constraints on the partitioned table must
+        @UniqueConstraint(name = "uk_todos_recurrence_due",
+                columnNames = {"household_id", "recurrence_rule_id", "due_date"})
+})
+@SQLRestriction("deleted = false")
+@Filter(name = Household.FILTER)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Todo {
+public class Todo implements HouseholdScoped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,7 +47,7 @@ public class Todo {
     @Enumerated(EnumType.STRING)
     private TodoCategory category;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User assignedTo;
 
@@ -37,9 +55,50 @@ public class Todo {
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
 
+    /**
+     * Time of the last write, used to answer delta sync requests.
+     */
+    private Instant lastModified;
+
+    /**
+     * Deleted todos are kept as tombstones so delta sync can report them; they are
+     * hidden from all entity queries and purged after the retention period.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean deleted;
+
+    /**
+     * Id of the user this todo was assigned to before its last reassignment,
+     * so that user's delta sync can report it as removed. Not a foreign key on purpose.
+     */
+    @Column(name = "previous_user_id")
+    private Long previousAssignedToId;
+
+    /**
+     * Id of the recurrence rule this todo is an occurrence of, if any. Not a foreign key, so
+     * deleting a rule keeps the occurrences already created.
+     */
+    @Column(name = "recurrence_rule_id")
+    private Long recurrenceRuleId;
+
+    /**
+     * Household of the assignee, copied here so queries can be restricted to a household (and, in
+     * Postgres, to its partition; see {@code db/partition-todos-postgresql.sql}) without joining users.
+     */
+    @Column(name = "household_id", nullable = false)
+    @ColumnDefault("1")
+    private Long householdId = Household.DEFAULT_ID;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        lastModified = Instant.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        lastModified = Instant.now();
     }
 
     public enum TodoStatus {
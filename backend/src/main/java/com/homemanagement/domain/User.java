@@ -4,19 +4,33 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_household", columnList = "household_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "user-ids-by-username")
+@Filter(name = Household.FILTER)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class User {
+public class User implements HouseholdScoped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Usernames are unique across households, so logging in needs no household.
+     */
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String username;
 
@@ -27,11 +41,23 @@ public class User {
     private String email;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "role")
     private Set<String> roles;
 
     private LocalDateTime createdAt;
+
+    /**
+     * Incremented to revoke all JWTs issued to this user; tokens carry the version they were issued with.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long tokenVersion;
+
+    @Column(name = "household_id", nullable = false)
+    @ColumnDefault("1")
+    private Long householdId = Household.DEFAULT_ID;
     
     @PrePersist
     protected void onCreate() {
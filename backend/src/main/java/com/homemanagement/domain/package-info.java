@@ -0,0 +1,13 @@
+/**
+ * Persistent entities.
+ * <p>
+ * Entities implementing {@link com.homemanagement.domain.HouseholdScoped} declare the household filter, which
+ * repositories enable for the household of the authenticated user (see {@code config.HouseholdFilterConfig}).
+ */
+@FilterDef(name = Household.FILTER,
+        parameters = @ParamDef(name = Household.FILTER_PARAMETER, type = Long.class),
+        defaultCondition = "household_id = :" + Household.FILTER_PARAMETER)
+package com.homemanagement.domain;
+
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
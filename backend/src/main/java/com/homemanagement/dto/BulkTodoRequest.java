@@ -0,0 +1,32 @@
+package com.homemanagement.dto;
+
+import com.homemanagement.domain.Todo;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for applying one action to many todos at once.
+ * {@code status} is required for UPDATE_STATUS, {@code assignedToId} for REASSIGN.
+ */
+@Data
+public class BulkTodoRequest {
+
+    @NotNull(message = "Action is required")
+    private Action action;
+
+    @NotEmpty(message = "At least one todo id is required")
+    @Size(max = 500, message = "At most 500 todos can be processed at once")
+    private List<Long> ids;
+
+    private Todo.TodoStatus status;
+
+    private Long assignedToId;
+
+    public enum Action {
+        UPDATE_STATUS, REASSIGN, DELETE
+    }
+}
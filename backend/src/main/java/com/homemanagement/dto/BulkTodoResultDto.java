@@ -0,0 +1,23 @@
+package com.homemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of a bulk action for a single todo.
+ */
+@Data
+@AllArgsConstructor
+public class BulkTodoResultDto {
+    private Long id;
+    private boolean success;
+    private String error;
+
+    public static BulkTodoResultDto succeeded(Long id) {
+        return new BulkTodoResultDto(id, true, null);
+    }
+
+    public static BulkTodoResultDto failed(Long id, String error) {
+        return new BulkTodoResultDto(id, false, error);
+    }
+}
@@ -0,0 +1,16 @@
+package com.homemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A record that was not imported, identified by the line it starts on.
+ */
+@Data
+@AllArgsConstructor
+public class ImportRejectionDto {
+    private long line;
+    private List<String> errors;
+}
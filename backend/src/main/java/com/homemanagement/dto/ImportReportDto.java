@@ -0,0 +1,18 @@
+package com.homemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ * {@code rejections} lists the first rejected records only; {@code rejected} counts all of them.
+ */
+@Data
+@AllArgsConstructor
+public class ImportReportDto {
+    private long imported;
+    private long rejected;
+    private List<ImportRejectionDto> rejections;
+}
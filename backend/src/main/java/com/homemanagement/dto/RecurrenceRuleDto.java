@@ -0,0 +1,40 @@
+package com.homemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.homemanagement.domain.RecurrenceRule;
+import com.homemanagement.domain.Todo;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class RecurrenceRuleDto {
+    private Long id;
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
+    private String title;
+    @Size(max = 255, message = "Description must be at most 255 characters")
+    private String description;
+    private Todo.TodoCategory category;
+    @NotNull(message = "Assigned user is required")
+    private Long assignedToId;
+    private String assignedToUsername;
+    @NotNull(message = "Frequency is required")
+    private RecurrenceRule.Frequency frequency;
+    @Min(value = 1, message = "Interval must be at least 1")
+    private int interval = 1;
+    @NotNull(message = "Start date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+    /**
+     * Due date of the next occurrence not created yet; read-only.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate nextOccurrence;
+}
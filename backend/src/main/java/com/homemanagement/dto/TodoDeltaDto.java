@@ -0,0 +1,21 @@
+package com.homemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Changes to a todo list since a given version.
+ * Clients apply {@code changed} and {@code deleted} to their copy and pass
+ * {@code version} as {@code since} on the next request. When {@code full} is true,
+ * the requested version was too old and {@code changed} holds the complete list instead.
+ */
+@Data
+@AllArgsConstructor
+public class TodoDeltaDto {
+    private long version;
+    private boolean full;
+    private List<TodoDto> changed;
+    private List<Long> deleted;
+}
@@ -2,15 +2,24 @@ package com.homemanagement.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.homemanagement.domain.Todo;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TodoDto {
     private Long id;
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
+    @Size(max = 255, message = "Description must be at most 255 characters")
     private String description;
     private Todo.TodoStatus status;
     private Todo.TodoCategory category;
@@ -20,4 +29,8 @@ public class TodoDto {
     private LocalDate dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
+    /**
+     * Set from the assignee; ignored when creating or updating a todo.
+     */
+    private Long householdId;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.homemanagement.dto;
+
+import com.homemanagement.domain.Todo;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional server-side filters for paginated todo listings.
+ * Bound from query parameters; unset fields do not restrict the result.
+ */
+@Data
+public class TodoFilter {
+    private Todo.TodoStatus status;
+    private Todo.TodoCategory category;
+    private Long assignedToId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+}
@@ -0,0 +1,17 @@
+package com.homemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated todo listing.
+ * {@code nextCursor} is null when there are no further pages.
+ */
+@Data
+@AllArgsConstructor
+public class TodoPageDto {
+    private List<TodoDto> items;
+    private String nextCursor;
+}
@@ -0,0 +1,24 @@
+package com.homemanagement.dto;
+
+import com.homemanagement.domain.Todo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Summary of a todo list for the dashboard statistics card.
+ */
+@Data
+@AllArgsConstructor
+public class TodoStatisticsDto {
+    private long total;
+    private Map<Todo.TodoStatus, Long> countsByStatus;
+    private Map<Todo.TodoCategory, Long> countsByCategory;
+    /** Open todos whose due date has passed. */
+    private long overdue;
+    /** Completed todos divided by all todos, 0 when there are none. */
+    private double completionRate;
+    /** Average time from creation to completion in seconds, or null when nothing was completed. */
+    private Double averageCompletionSeconds;
+}
@@ -1,8 +1,10 @@
 package com.homemanagement.dto;
 
+import com.homemanagement.domain.Todo;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -17,4 +19,5 @@ public class UserDetailDto {
     private Set<String> roles;
     private LocalDateTime createdAt;
     private Integer todoCount;
+    private Map<Todo.TodoStatus, Long> todoCountsByStatus;
 }
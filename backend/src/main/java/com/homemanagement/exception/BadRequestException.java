@@ -0,0 +1,10 @@
+package com.homemanagement.exception;
+
+/**
+ * Thrown when the client's input is malformed or inconsistent; its message is returned with a 400 response.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
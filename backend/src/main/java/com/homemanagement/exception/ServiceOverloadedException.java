@@ -0,0 +1,10 @@
+package com.homemanagement.exception;
+
+/**
+ * Thrown when a bounded resource is saturated and the request should be retried later.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.homemanagement.mapper;
+
+import com.homemanagement.domain.RecurrenceRule;
+import com.homemanagement.dto.RecurrenceRuleDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for RecurrenceRule entity and its DTO.
+ */
+@Mapper(componentModel = "spring")
+public interface RecurrenceRuleMapper {
+
+    @Mapping(target = "assignedToId", source = "assignedTo.id")
+    @Mapping(target = "assignedToUsername", source = "assignedTo.username")
+    RecurrenceRuleDto toDto(RecurrenceRule rule);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "assignedTo", ignore = true)
+    @Mapping(target = "nextOccurrence", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "householdId", ignore = true)
+    RecurrenceRule toEntity(RecurrenceRuleDto dto);
+}
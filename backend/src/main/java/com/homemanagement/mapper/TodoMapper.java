@@ -10,6 +10,11 @@ import java.time.LocalDateTime;
 @Mapper(componentModel = "spring")
 public interface TodoMapper {
   @Mapping(target = "assignedTo", ignore = true)
+  @Mapping(target = "lastModified", ignore = true)
+  @Mapping(target = "deleted", ignore = true)
+  @Mapping(target = "previousAssignedToId", ignore = true)
+  @Mapping(target = "recurrenceRuleId", ignore = true)
+  @Mapping(target = "householdId", ignore = true)
   Todo toEntity(TodoDto dto);
 
   @Mapping(target = "assignedToId", source = "assignedTo.id")
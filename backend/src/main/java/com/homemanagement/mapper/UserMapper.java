@@ -22,6 +22,7 @@ public interface UserMapper {
      * Map User entity to UserDetailDto.
      */
     @Mapping(target = "todoCount", ignore = true)
+    @Mapping(target = "todoCountsByStatus", ignore = true)
     UserDetailDto toDetailDto(User user);
 
     /**
@@ -30,5 +31,7 @@ public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "password", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
+    @Mapping(target = "householdId", ignore = true)
     User toEntity(CreateUserRequest request);
 }
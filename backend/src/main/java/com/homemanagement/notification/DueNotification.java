@@ -0,0 +1,18 @@
+package com.homemanagement.notification;
+
+import java.time.LocalDate;
+
+/**
+ * Notice that a pending todo is about to fall due or has become overdue.
+ *
+ * @param type    Whether the todo is due soon or overdue
+ * @param todoId  Id of the todo
+ * @param title   Title of the todo at the time of the notification
+ * @param dueDate Due date of the todo
+ */
+public record DueNotification(Type type, Long todoId, String title, LocalDate dueDate) {
+
+    public enum Type {
+        DUE_SOON, OVERDUE
+    }
+}
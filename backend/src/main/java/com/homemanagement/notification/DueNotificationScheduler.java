@@ -0,0 +1,331 @@
+package com.homemanagement.notification;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.service.TodoChangedEvent;
+import com.homemanagement.rest.service.TodosImportedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Notifies users when their pending todos are due soon ({@code due-soon} before the due date begins)
+ * and when they become overdue (once the due date has passed).
+ * <p>
+ * Both deadlines of every open todo due within the {@code preload} window are held in a {@link TimingWheel},
+ * so a tick costs only the deadlines that expire; the todos table is read again, in pages of a range
+ * scan over the due date index, only when the window moves on. The wheel is kept current from the change
+ * events of {@code TodoService} and rebuilt after imports, from the last processed tick, so deadlines
+ * passing in between are still notified. Deadlines that passed while the application was not running
+ * are not notified late.
+ * <p>
+ * Notifications expiring in the same tick are delivered to the {@link NotificationSink} in one call per user.
+ */
+@Slf4j
+@Service
+public class DueNotificationScheduler {
+
+    private final TodoRepository todoRepository;
+    private final NotificationSink notificationSink;
+    private final Duration tick;
+    private final int wheelSize;
+    private final Duration dueSoon;
+    private final long preloadDays;
+    private final int pageSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    /**
+     * Guards the wheel, the watched todos and the loaded window, which change events also update.
+     * Held neither while reading the todos table nor while delivering notifications.
+     */
+    private final Object lock = new Object();
+    private final Map<Long, Watch> watches = new HashMap<>();
+
+    /**
+     * Null until the first tick and after a reset or reload.
+     */
+    private TimingWheel<Alarm> wheel;
+
+    /**
+     * Time of the last processed tick of the wheel dropped by a reload, from which the next tick rebuilds it.
+     */
+    private Instant resumeFrom;
+
+    /**
+     * Open todos due up to this date are watched, or are being loaded.
+     */
+    private LocalDate loadedUntil;
+
+    /**
+     * Ids of the todos whose change events arrived since the current window load began, so its possibly
+     * older rows of them are skipped; null while no load is in progress.
+     */
+    private Set<Long> changedDuringLoad;
+
+    public DueNotificationScheduler(TodoRepository todoRepository,
+                                    NotificationSink notificationSink,
+                                    @Value("${todos.notifications.tick-interval}") long tickMillis,
+                                    @Value("${todos.notifications.wheel-size}") int wheelSize,
+                                    @Value("${todos.notifications.due-soon}") Duration dueSoon,
+                                    @Value("${todos.notifications.preload}") Duration preload,
+                                    @Value("${todos.notifications.page-size}") int pageSize) {
+        this.todoRepository = todoRepository;
+        this.notificationSink = notificationSink;
+        this.tick = Duration.ofMillis(tickMillis);
+        this.wheelSize = wheelSize;
+        this.dueSoon = dueSoon;
+        this.preloadDays = Math.max(preload.toDays(), 1);
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(fixedDelayString = "${todos.notifications.tick-interval}")
+    public void deliverDue() {
+        deliverDue(Instant.now());
+    }
+
+    /**
+     * Deliver the notifications whose deadline has passed by {@code now}.
+     *
+     * @return The number of notifications delivered
+     */
+    synchronized int deliverDue(Instant now) {
+        TimingWheel<Alarm> current;
+        LocalDate afterDate;
+        LocalDate until;
+        synchronized (lock) {
+            if (wheel == null) {
+                Instant start = resumeFrom != null && resumeFrom.isBefore(now) ? resumeFrom : now;
+                wheel = new TimingWheel<>(tick, wheelSize, start);
+                resumeFrom = null;
+            }
+            current = wheel;
+            afterDate = extendWindow(now);
+            until = loadedUntil;
+        }
+        if (afterDate != null) {
+            loadWindow(current, afterDate, until);
+        }
+
+        Map<String, List<DueNotification>> byUser = new LinkedHashMap<>();
+        synchronized (lock) {
+            if (wheel != current) {
+                // Reloaded meanwhile; the next tick starts over from this tick's time
+                return 0;
+            }
+            wheel.advance(now, alarm -> {
+                TodoDto todo = alarm.todo();
+                byUser.computeIfAbsent(todo.getAssignedToUsername(), username -> new ArrayList<>())
+                        .add(new DueNotification(alarm.type(), todo.getId(), todo.getTitle(), todo.getDueDate()));
+                if (alarm.type() == DueNotification.Type.OVERDUE) {
+                    watches.remove(todo.getId());
+                }
+            });
+        }
+
+        // Outside the lock, so a slow sink does not hold up the writers publishing change events
+        int delivered = 0;
+        for (Map.Entry<String, List<DueNotification>> entry : byUser.entrySet()) {
+            List<DueNotification> notifications = entry.getValue();
+            notifications.sort(Comparator.comparing(DueNotification::dueDate).thenComparing(DueNotification::todoId));
+            try {
+                notificationSink.deliver(entry.getKey(), notifications);
+                delivered += notifications.size();
+            } catch (RuntimeException e) {
+                log.warn("Could not deliver {} notifications to {}", notifications.size(), entry.getKey(), e);
+            }
+        }
+        return delivered;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(event.todo().getId());
+            }
+            unwatch(event.todo().getId());
+            if (event.after() != null) {
+                watch(event.after());
+            }
+        }
+    }
+
+    /**
+     * Imported todos come without change events, so the wheel is rebuilt on the next tick instead.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosImported(TodosImportedEvent event) {
+        reload();
+    }
+
+    /**
+     * Forget all watched todos, as after a restart; the next tick loads them again.
+     */
+    void reset() {
+        synchronized (lock) {
+            watches.clear();
+            wheel = null;
+            loadedUntil = null;
+            changedDuringLoad = null;
+            resumeFrom = null;
+        }
+    }
+
+    /**
+     * Forget all watched todos; the next tick loads them again and notifies the deadlines
+     * that have passed since the last processed tick.
+     */
+    private void reload() {
+        synchronized (lock) {
+            if (wheel != null) {
+                resumeFrom = wheel.time();
+            }
+            watches.clear();
+            wheel = null;
+            loadedUntil = null;
+            changedDuringLoad = null;
+        }
+    }
+
+    /**
+     * Number of todos currently watched.
+     */
+    int watched() {
+        synchronized (lock) {
+            return watches.size();
+        }
+    }
+
+    /**
+     * Extend the loaded window to the preload window past the last due date that can fire now, once that
+     * date reaches its end. Change events are watched against the extended window from now on.
+     *
+     * @return The due date after which the todos of the extension are to be loaded, or null if it needs none
+     */
+    private LocalDate extendWindow(Instant now) {
+        LocalDate horizon = LocalDate.ofInstant(now.plus(dueSoon), zone);
+        if (loadedUntil != null && horizon.isBefore(loadedUntil)) {
+            return null;
+        }
+
+        // Todos due before the day of the wheel's time have passed both deadlines
+        LocalDate afterDate = loadedUntil != null ? loadedUntil : LocalDate.ofInstant(wheel.time(), zone).minusDays(1);
+        loadedUntil = horizon.plusDays(preloadDays);
+        changedDuringLoad = new HashSet<>();
+        return afterDate;
+    }
+
+    /**
+     * Watch the open todos due after {@code afterDate} up to {@code until}, read in pages of a range scan
+     * over the due date index. Pages are read outside the lock, so writers publishing change events are
+     * not held up, and merged under it, skipping the todos whose change events arrived meanwhile.
+     */
+    private void loadWindow(TimingWheel<Alarm> loading, LocalDate afterDate, LocalDate until) {
+        Long afterId = Long.MAX_VALUE;
+        int loaded = 0;
+        try {
+            List<TodoDto> page;
+            do {
+                page = todoRepository.findOpenDtosDueBetween(afterDate, afterId, until, Limit.of(pageSize));
+                synchronized (lock) {
+                    if (wheel != loading) {
+                        return;
+                    }
+                    for (TodoDto todo : page) {
+                        if (!changedDuringLoad.contains(todo.getId())) {
+                            unwatch(todo.getId());
+                            watch(todo);
+                        }
+                    }
+                }
+                if (!page.isEmpty()) {
+                    TodoDto last = page.get(page.size() - 1);
+                    afterDate = last.getDueDate();
+                    afterId = last.getId();
+                }
+                loaded += page.size();
+            } while (page.size() == pageSize);
+        } catch (RuntimeException e) {
+            // The window is only partly loaded; start over on the next tick
+            synchronized (lock) {
+                if (wheel == loading) {
+                    reload();
+                }
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            if (wheel == loading) {
+                changedDuringLoad = null;
+            }
+        }
+        log.debug("Watching {} more todos due by {}", loaded, until);
+    }
+
+    /**
+     * Schedule the deadlines of a todo that are still ahead, if it is open and due within the loaded window.
+     */
+    private void watch(TodoDto todo) {
+        if (todo.getStatus() == Todo.TodoStatus.COMPLETED || todo.getDueDate() == null
+                || todo.getDueDate().isAfter(loadedUntil)) {
+            return;
+        }
+
+        Instant dueSoonAt = todo.getDueDate().atStartOfDay(zone).toInstant().minus(dueSoon);
+        Instant overdueAt = todo.getDueDate().plusDays(1).atStartOfDay(zone).toInstant();
+        Instant time = wheel.time();
+        if (!overdueAt.isAfter(time)) {
+            return;
+        }
+
+        Watch watch = new Watch();
+        if (dueSoonAt.isAfter(time)) {
+            watch.dueSoon = wheel.schedule(dueSoonAt, new Alarm(DueNotification.Type.DUE_SOON, todo));
+        }
+        watch.overdue = wheel.schedule(overdueAt, new Alarm(DueNotification.Type.OVERDUE, todo));
+        watches.put(todo.getId(), watch);
+    }
+
+    private void unwatch(Long todoId) {
+        Watch watch = watches.remove(todoId);
+        if (watch != null) {
+            watch.cancel(wheel);
+        }
+    }
+
+    private record Alarm(DueNotification.Type type, TodoDto todo) {
+    }
+
+    private static final class Watch {
+        private TimingWheel.Timeout<Alarm> dueSoon;
+        private TimingWheel.Timeout<Alarm> overdue;
+
+        void cancel(TimingWheel<Alarm> wheel) {
+            if (dueSoon != null) {
+                wheel.cancel(dueSoon);
+            }
+            wheel.cancel(overdue);
+        }
+    }
+}
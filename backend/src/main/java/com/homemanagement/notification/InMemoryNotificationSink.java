@@ -0,0 +1,34 @@
+package com.homemanagement.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps delivered notifications in memory so they can be inspected, e.g. by tests.
+ */
+@Component
+@ConditionalOnProperty(name = "todos.notifications.sink", havingValue = "memory")
+public class InMemoryNotificationSink implements NotificationSink {
+
+    private final List<Delivery> deliveries = new ArrayList<>();
+
+    @Override
+    public synchronized void deliver(String username, List<DueNotification> notifications) {
+        deliveries.add(new Delivery(username, List.copyOf(notifications)));
+    }
+
+    /**
+     * Deliveries since the last call, in delivery order.
+     */
+    public synchronized List<Delivery> drain() {
+        List<Delivery> drained = List.copyOf(deliveries);
+        deliveries.clear();
+        return drained;
+    }
+
+    public record Delivery(String username, List<DueNotification> notifications) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.homemanagement.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes notifications to the application log.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todos.notifications.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSink implements NotificationSink {
+
+    @Override
+    public void deliver(String username, List<DueNotification> notifications) {
+        log.info("Notifying {} of {} todos: {}", username, notifications.size(), notifications);
+    }
+}
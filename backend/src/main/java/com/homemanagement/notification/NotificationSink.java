@@ -0,0 +1,16 @@
+package com.homemanagement.notification;
+
+import java.util.List;
+
+/**
+ * Destination of due-date notifications, e.g. a mail or push gateway.
+ * Implementations are selected with {@code todos.notifications.sink}.
+ */
+public interface NotificationSink {
+
+    /**
+     * Deliver the notifications that fell due for one user in the same tick, ordered by due date.
+     * Called from the scheduler thread; slow deliveries delay the following ticks.
+     */
+    void deliver(String username, List<DueNotification> notifications);
+}
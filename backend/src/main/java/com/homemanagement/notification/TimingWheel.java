@@ -0,0 +1,144 @@
+package com.homemanagement.notification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: timeouts are hashed by their deadline tick into a fixed ring of slots, each an
+ * unsorted doubly linked list. Scheduling and cancelling are O(1); advancing by one tick only visits
+ * one slot, whose timeouts for later revolutions stay in place. Deadlines are rounded up to the next
+ * tick, so a timeout expires at most one tick late and never early.
+ * <p>
+ * Not thread-safe; callers synchronize.
+ *
+ * @param <T> Item carried by each timeout
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Slot<T>[] slots;
+    private final int mask;
+    private final Instant origin;
+
+    /**
+     * Last tick whose slot was processed; ticks count from the origin.
+     */
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(Duration tick, int wheelSize, Instant start) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickMillis = tick.toMillis();
+        // A power of two, so the slot of a tick is a mask rather than a division
+        int slotCount = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.slots = new Slot[Math.max(slotCount, 1)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot<>();
+        }
+        this.mask = slots.length - 1;
+        this.origin = start;
+    }
+
+    /**
+     * Schedule an item to expire at the deadline; past deadlines expire on the next tick.
+     */
+    Timeout<T> schedule(Instant deadline, T item) {
+        long millis = Duration.between(origin, deadline).toMillis();
+        long tick = Math.max(Math.ceilDiv(millis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, tick);
+        slots[(int) (tick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancel a timeout; does nothing if it has already expired or been cancelled.
+     */
+    void cancel(Timeout<T> timeout) {
+        if (timeout.slot != null) {
+            timeout.slot.remove(timeout);
+            size--;
+        }
+    }
+
+    /**
+     * Process every tick up to the given time, passing the items of the expired timeouts to the consumer.
+     * After a pause longer than one revolution each slot is visited only once.
+     */
+    void advance(Instant now, Consumer<? super T> expired) {
+        long targetTick = Math.floorDiv(Duration.between(origin, now).toMillis(), tickMillis);
+        long fromTick = Math.max(currentTick + 1, targetTick - mask);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Slot<T> slot = slots[(int) (tick & mask)];
+            for (Timeout<T> timeout = slot.head; timeout != null; ) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadlineTick <= targetTick) {
+                    slot.remove(timeout);
+                    size--;
+                    expired.accept(timeout.item);
+                }
+                timeout = next;
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+    }
+
+    /**
+     * Time of the last processed tick; deadlines up to it have expired.
+     */
+    Instant time() {
+        return origin.plusMillis(currentTick * tickMillis);
+    }
+
+    int size() {
+        return size;
+    }
+
+    static final class Timeout<T> {
+        private final T item;
+        private final long deadlineTick;
+        private Slot<T> slot;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        T item() {
+            return item;
+        }
+    }
+
+    private static final class Slot<T> {
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.next = head;
+            if (head != null) {
+                head.previous = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.slot = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+}
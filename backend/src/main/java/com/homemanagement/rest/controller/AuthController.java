@@ -2,6 +2,7 @@ package com.homemanagement.rest.controller;
 
 import com.homemanagement.dto.AuthRequestDto;
 import com.homemanagement.dto.AuthResponseDto;
+import com.homemanagement.security.AuthenticationCache;
 import com.homemanagement.security.JwtTokenProvider;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final AuthenticationCache authenticationCache;
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody AuthRequestDto request) {
@@ -28,7 +30,8 @@ public class AuthController {
             new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
 
-        String token = tokenProvider.generateToken(authentication);
+        Long tokenVersion = authenticationCache.getTokenVersion(authentication.getName());
+        String token = tokenProvider.generateToken(authentication, tokenVersion == null ? 0 : tokenVersion);
         Set<String> roles = authentication.getAuthorities().stream()
             .map(GrantedAuthority::getAuthority)
             .collect(Collectors.toSet());
@@ -0,0 +1,54 @@
+package com.homemanagement.rest.controller;
+
+import com.homemanagement.dto.RecurrenceRuleDto;
+import com.homemanagement.rest.service.RecurrenceService;
+import com.homemanagement.security.UserPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for recurring todos. Their occurrences appear as ordinary todos ahead of their due date.
+ */
+@RestController
+@RequestMapping("/api/recurrences")
+@RequiredArgsConstructor
+public class RecurrenceRuleController {
+
+    private final RecurrenceService recurrenceService;
+
+    /**
+     * Get the caller's recurring todos; admins get all of them.
+     */
+    @GetMapping
+    public ResponseEntity<List<RecurrenceRuleDto>> getRules(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(recurrenceService.getRules(principal));
+    }
+
+    /**
+     * Create a recurring todo.
+     * Users can only create recurring todos for themselves unless they are admin.
+     */
+    @PostMapping
+    public ResponseEntity<RecurrenceRuleDto> createRule(
+            @Valid @RequestBody RecurrenceRuleDto ruleDto,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(recurrenceService.createRule(ruleDto, principal));
+    }
+
+    /**
+     * Delete a recurring todo; occurrences already created are kept.
+     * Users can only delete their own recurring todos unless they are admin.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id, @AuthenticationPrincipal UserPrincipal principal) {
+        recurrenceService.deleteRule(id, principal);
+        return ResponseEntity.noContent().build();
+    }
+}
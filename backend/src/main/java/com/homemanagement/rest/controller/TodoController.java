@@ -1,14 +1,42 @@
 package com.homemanagement.rest.controller;
 
+import com.homemanagement.config.ReadRouting;
+import com.homemanagement.dto.BulkTodoRequest;
+import com.homemanagement.dto.BulkTodoResultDto;
+import com.homemanagement.dto.ImportReportDto;
+import com.homemanagement.dto.TodoDeltaDto;
 import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.TodoFilter;
+import com.homemanagement.dto.TodoPageDto;
+import com.homemanagement.dto.TodoStatisticsDto;
+import com.homemanagement.rest.service.DataFormat;
+import com.homemanagement.rest.service.ImportService;
+import com.homemanagement.rest.service.TodoChangeFeed;
+import com.homemanagement.rest.service.TodoExportService;
 import com.homemanagement.rest.service.TodoService;
+import com.homemanagement.rest.service.TodoStatisticsService;
+import com.homemanagement.rest.service.TodoSyncService;
+import com.homemanagement.rest.service.TodoVersionTracker;
+import com.homemanagement.security.HouseholdContext;
+import com.homemanagement.security.RoleConstants;
+import com.homemanagement.security.UserPrincipal;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -20,31 +48,181 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoChangeFeed todoChangeFeed;
+    private final TodoExportService todoExportService;
+    private final ImportService importService;
+    private final TodoSyncService todoSyncService;
+    private final TodoStatisticsService todoStatisticsService;
+    private final TodoVersionTracker todoVersionTracker;
 
     /**
      * Get all todos (admin only).
+     * Answers 304 Not Modified when {@code If-None-Match} carries the current version. Versioned reads
+     * come from the primary database, as a lagging replica would return older rows under the new version.
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<TodoDto>> getAllTodos() {
-        return ResponseEntity.ok(todoService.getAllTodos());
+    public ResponseEntity<List<TodoDto>> getAllTodos(WebRequest request) {
+        String etag = String.valueOf(todoVersionTracker.globalVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ReadRouting.onPrimary(todoService::getAllTodos));
+    }
+
+    /**
+     * Export all todos as NDJSON (default) or CSV (admin only).
+     * The body is streamed from a database cursor, so exports of any size use constant memory.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(defaultValue = "NDJSON") DataFormat format) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("todos." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(outputStream -> todoExportService.export(format, outputStream));
+    }
+
+    /**
+     * Import todos from CSV or NDJSON (admin only).
+     * Each record names its assignee by {@code assignedToUsername}; invalid records are
+     * skipped and reported by line number.
+     */
+    @PostMapping(path = "/import", consumes = {DataFormat.CSV_VALUE, DataFormat.NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportReportDto> importTodos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importTodos(DataFormat.of(contentType), body));
+    }
+
+    /**
+     * Get changes to all todos of the admin's household since a version returned by a previous call (admin only).
+     */
+    @GetMapping(params = "since")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TodoDeltaDto> getAllTodoChanges(
+            @RequestParam long since,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(ReadRouting.onPrimary(
+                () -> todoSyncService.getAllChanges(principal.getHouseholdId(), since)));
     }
 
     /**
      * Get todos for the authenticated user.
+     * Answers 304 Not Modified when {@code If-None-Match} carries the current version.
      */
     @GetMapping("/my")
-    public ResponseEntity<List<TodoDto>> getMyTodos(Authentication authentication) {
-        return ResponseEntity.ok(todoService.getTodosByUsername(authentication.getName()));
+    public ResponseEntity<List<TodoDto>> getMyTodos(Authentication authentication, WebRequest request) {
+        String etag = String.valueOf(todoVersionTracker.versionOf(authentication.getName()));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ReadRouting.onPrimary(
+                () -> todoService.getTodosByUsername(authentication.getName())));
+    }
+
+    /**
+     * Get changes to the authenticated user's todos since a version returned by a previous call.
+     * The ETag of {@code /my} can be used as the first {@code since} value.
+     */
+    @GetMapping(path = "/my", params = "since")
+    public ResponseEntity<TodoDeltaDto> getMyTodoChanges(@RequestParam long since, Authentication authentication) {
+        return ResponseEntity.ok(ReadRouting.onPrimary(
+                () -> todoSyncService.getChangesByUsername(authentication.getName(), since)));
+    }
+
+    /**
+     * Get one page of all todos, optionally filtered (admin only).
+     * Pass the returned {@code nextCursor} as {@code cursor} to fetch the following page.
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TodoPageDto> getTodosPage(
+            TodoFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(todoService.getTodosPage(filter, cursor, size));
+    }
+
+    /**
+     * Get one page of the authenticated user's todos, optionally filtered.
+     */
+    @GetMapping("/my/page")
+    public ResponseEntity<TodoPageDto> getMyTodosPage(
+            TodoFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(todoService.getTodosPageByUsername(authentication.getName(), filter, cursor, size));
+    }
+
+    /**
+     * Search all todos by title and description, best match first (admin only).
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<TodoDto>> searchTodos(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(todoService.searchTodos(query, limit));
+    }
+
+    /**
+     * Search the authenticated user's todos by title and description, best match first.
+     */
+    @GetMapping("/my/search")
+    public ResponseEntity<List<TodoDto>> searchMyTodos(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        return ResponseEntity.ok(todoService.searchTodosByUsername(authentication.getName(), query, limit));
+    }
+
+    /**
+     * Get statistics of all todos (admin only).
+     */
+    @GetMapping("/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TodoStatisticsDto> getStatistics() {
+        return ResponseEntity.ok(todoStatisticsService.getStatistics());
+    }
+
+    /**
+     * Get statistics of the authenticated user's todos.
+     */
+    @GetMapping("/statistics/my")
+    public ResponseEntity<TodoStatisticsDto> getMyStatistics(Authentication authentication) {
+        return ResponseEntity.ok(todoStatisticsService.getStatisticsByUsername(authentication.getName()));
+    }
+
+    /**
+     * Stream todo changes as Server-Sent Events.
+     * Users receive changes to their own todos, admins receive all changes in their household.
+     * Reconnecting clients send {@code Last-Event-ID} to resume; a {@code reset}
+     * event means the missed changes are no longer available and the list should be reloaded.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> RoleConstants.ADMIN.equals(authority.getAuthority()));
+        return todoChangeFeed.subscribe(authentication.getName(), admin, HouseholdContext.currentHouseholdId(),
+                lastEventId);
     }
 
     /**
      * Create a new todo.
      */
     @PostMapping
-    public ResponseEntity<TodoDto> createTodo(@RequestBody TodoDto todoDto, Authentication authentication) {
+    public ResponseEntity<TodoDto> createTodo(@RequestBody TodoDto todoDto, @AuthenticationPrincipal UserPrincipal principal) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(todoService.createTodo(todoDto, authentication.getName()));
+                .body(todoService.createTodo(todoDto, principal));
     }
 
     /**
@@ -55,8 +233,20 @@ public class TodoController {
     public ResponseEntity<TodoDto> updateTodo(
             @PathVariable Long id,
             @RequestBody TodoDto todoDto,
-            Authentication authentication) {
-        return ResponseEntity.ok(todoService.updateTodo(id, todoDto, authentication.getName()));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(todoService.updateTodo(id, todoDto, principal));
+    }
+
+    /**
+     * Apply one action (status update, reassignment or deletion) to many todos.
+     * Users can only modify their own todos unless they are admin; the response
+     * reports success or failure for each requested todo.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkTodoResultDto>> applyBulkAction(
+            @Valid @RequestBody BulkTodoRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(todoService.applyBulkAction(request, principal));
     }
 
     /**
@@ -64,8 +254,8 @@ public class TodoController {
      * Users can only delete their own todos unless they are admin.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTodo(@PathVariable Long id, Authentication authentication) {
-        todoService.deleteTodo(id, authentication.getName());
+    public ResponseEntity<Void> deleteTodo(@PathVariable Long id, @AuthenticationPrincipal UserPrincipal principal) {
+        todoService.deleteTodo(id, principal);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,31 @@
 package com.homemanagement.rest.controller;
 
 import com.homemanagement.dto.CreateUserRequest;
+import com.homemanagement.dto.ImportReportDto;
 import com.homemanagement.dto.TodoDto;
 import com.homemanagement.dto.UpdateUserRequest;
 import com.homemanagement.dto.UserDetailDto;
 import com.homemanagement.dto.UserDto;
 import com.homemanagement.domain.User;
 import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.rest.service.DataFormat;
+import com.homemanagement.rest.service.ImportService;
 import com.homemanagement.rest.service.TodoService;
 import com.homemanagement.rest.service.UserService;
+import com.homemanagement.security.AuthenticationCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +41,8 @@ public class UserController {
     private final PasswordEncoder passwordEncoder;
     private final UserService userService;
     private final TodoService todoService;
+    private final AuthenticationCache authenticationCache;
+    private final ImportService importService;
 
     /**
      * Get all users (admin only).
@@ -73,6 +83,18 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Import users from CSV or NDJSON (admin only).
+     * Invalid records and existing usernames are skipped and reported by line number.
+     */
+    @PostMapping(path = "/import", consumes = {DataFormat.CSV_VALUE, DataFormat.NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportReportDto> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importUsers(DataFormat.of(contentType), body));
+    }
+
     /**
      * Update an existing user (admin only).
      */
@@ -175,6 +197,7 @@ public class UserController {
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        authenticationCache.evict(username);
 
         return ResponseEntity.ok(Map.of("message", "Password updated successfully"));
     }
@@ -0,0 +1,134 @@
+package com.homemanagement.rest.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts many rows at once, bypassing the persistence context.
+ * On PostgreSQL {@link #load} streams the rows with {@code COPY ... FROM STDIN}; other databases
+ * get a JDBC batch insert. Runs on the connection of the current transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkLoader {
+
+    /**
+     * Rows per multi-row insert statement; keeps the bind parameters far below the PostgreSQL limit of 65535.
+     */
+    static final int ROWS_PER_INSERT = 100;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the rows into the table; each row holds one value per column, in column order.
+     * Enums are stored by name and temporals in ISO format.
+     */
+    public void load(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                copy(connection.unwrap(PGConnection.class), table, columns, rows);
+                return;
+            }
+        } catch (SQLException e) {
+            throw jdbcTemplate.getExceptionTranslator().translate("COPY " + table, null, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.batchUpdate("insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                + placeholders + ")", rows.stream().map(BulkLoader::toJdbcValues).collect(Collectors.toList()));
+    }
+
+    /**
+     * Insert the rows with multi-row {@code INSERT ... ON CONFLICT DO NOTHING} statements: rows that would
+     * violate a unique constraint are skipped, so inserting the same rows again is harmless.
+     *
+     * @return The number of rows inserted
+     */
+    public int insertSkippingDuplicates(String table, List<String> columns, List<Object[]> rows) {
+        String row = columns.stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+        String insert = "insert into " + table + " (" + String.join(", ", columns) + ") values ";
+
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += ROWS_PER_INSERT) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + ROWS_PER_INSERT, rows.size()));
+            List<Object> values = new ArrayList<>(chunk.size() * columns.size());
+            for (Object[] chunkRow : chunk) {
+                Collections.addAll(values, toJdbcValues(chunkRow));
+            }
+            inserted += jdbcTemplate.update(insert + String.join(", ", Collections.nCopies(chunk.size(), row))
+                    + " on conflict do nothing", values.toArray());
+        }
+        return inserted;
+    }
+
+    private void copy(PGConnection connection, String table, List<String> columns, List<Object[]> rows)
+            throws SQLException {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendCsv(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        try {
+            connection.getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Null stays an unquoted empty field; everything else is quoted, so empty strings survive.
+     */
+    private static void appendCsv(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        csv.append('"').append(toText(value).replace("\"", "\"\"")).append('"');
+    }
+
+    private static String toText(Object value) {
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+
+    /**
+     * Enums become their names and instants UTC timestamps, which the PostgreSQL driver cannot bind directly.
+     */
+    private static Object[] toJdbcValues(Object[] row) {
+        return Arrays.stream(row)
+                .map(value -> value instanceof Enum<?> constant ? constant.name()
+                        : value instanceof Instant instant ? instant.atOffset(ZoneOffset.UTC)
+                        : value)
+                .toArray();
+    }
+}
@@ -0,0 +1,7 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.Household;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HouseholdRepository extends JpaRepository<Household, Long> {
+}
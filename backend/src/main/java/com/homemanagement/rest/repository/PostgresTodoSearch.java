@@ -0,0 +1,63 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.security.HouseholdContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Searches the {@code search_words} tsvector column (see {@code schema-postgresql.sql})
+ * through its GIN index and ranks matches with {@code ts_rank}. Words are not stemmed, so a
+ * partly typed word matches as a prefix of the words it could become.
+ * Being native SQL, searches of all todos restrict the household themselves.
+ */
+@Repository
+@ConditionalOnProperty(name = "todos.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresTodoSearch implements TodoSearch {
+
+    private static final String SEARCH_ALL = """
+            select t.id
+            from todos t, to_tsquery('simple', :query) q
+            where t.search_words @@ q and t.deleted = false
+            order by ts_rank(t.search_words, q) desc, t.id
+            limit :limit
+            """;
+
+    private static final String SEARCH_HOUSEHOLD = """
+            select t.id
+            from todos t, to_tsquery('simple', :query) q
+            where t.search_words @@ q and t.deleted = false and t.household_id = :householdId
+            order by ts_rank(t.search_words, q) desc, t.id
+            limit :limit
+            """;
+
+    private static final String SEARCH_BY_USERNAME = """
+            select t.id
+            from todos t join users u on u.id = t.user_id, to_tsquery('simple', :query) q
+            where t.search_words @@ q and t.deleted = false and u.username = :username
+            order by ts_rank(t.search_words, q) desc, t.id
+            limit :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(List<String> terms, String username, int limit) {
+        // Terms only contain letters and digits, so they cannot inject tsquery operators
+        String query = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+        Long householdId = HouseholdContext.currentHouseholdId();
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("username", username)
+                .addValue("householdId", householdId)
+                .addValue("limit", limit);
+        String sql = username != null ? SEARCH_BY_USERNAME : householdId != null ? SEARCH_HOUSEHOLD : SEARCH_ALL;
+        return jdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+}
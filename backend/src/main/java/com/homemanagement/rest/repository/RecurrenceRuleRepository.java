@@ -0,0 +1,53 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.RecurrenceRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurrenceRuleRepository extends JpaRepository<RecurrenceRule, Long> {
+
+    @Query("select r from RecurrenceRule r join fetch r.assignedTo order by r.id")
+    List<RecurrenceRule> findAllWithAssignee();
+
+    @Query("select r from RecurrenceRule r join fetch r.assignedTo a where a.id = :userId order by r.id")
+    List<RecurrenceRule> findByAssigneeId(@Param("userId") Long userId);
+
+    @Query("select r from RecurrenceRule r join fetch r.assignedTo where r.id in :ids")
+    List<RecurrenceRule> findAllWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete the rules assigned to a user; the occurrences already created are kept.
+     */
+    @Modifying
+    @Query("delete from RecurrenceRule r where r.assignedTo.id = :userId")
+    int deleteByAssigneeId(@Param("userId") Long userId);
+
+    /**
+     * Find a rule only if it is assigned to the given user; admins match every rule.
+     */
+    @Query("select r from RecurrenceRule r where r.id = :id and (:admin = true or r.assignedTo.id = :userId)")
+    Optional<RecurrenceRule> findByIdForUser(@Param("id") Long id, @Param("userId") Long userId,
+                                             @Param("admin") boolean admin);
+
+    /**
+     * Rules whose next occurrence is due by the given date, overdue ones included.
+     */
+    @Query("select r.id as id, r.nextOccurrence as nextOccurrence from RecurrenceRule r "
+            + "where r.nextOccurrence <= :until")
+    List<RecurrenceRuleSchedule> findSchedulesDueBy(@Param("until") LocalDate until);
+
+    /**
+     * Rules whose next occurrence is due after {@code after} and by {@code until}; a range scan of the index.
+     */
+    @Query("select r.id as id, r.nextOccurrence as nextOccurrence from RecurrenceRule r "
+            + "where r.nextOccurrence > :after and r.nextOccurrence <= :until")
+    List<RecurrenceRuleSchedule> findSchedulesDueBetween(@Param("after") LocalDate after,
+                                                         @Param("until") LocalDate until);
+}
@@ -0,0 +1,11 @@
+package com.homemanagement.rest.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of a recurrence rule's id and the due date of its next occurrence.
+ */
+public interface RecurrenceRuleSchedule {
+    Long getId();
+    LocalDate getNextOccurrence();
+}
@@ -0,0 +1,12 @@
+package com.homemanagement.rest.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Number of open todos of one assignee due on one date.
+ */
+public interface TodoDueDateCount {
+    String getUsername();
+    LocalDate getDueDate();
+    Long getCount();
+}
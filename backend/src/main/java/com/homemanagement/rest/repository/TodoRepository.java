@@ -1,9 +1,120 @@
 package com.homemanagement.rest.repository;
 
 import com.homemanagement.domain.Todo;
+import com.homemanagement.dto.TodoDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo> {
+
+    /**
+     * Selects exactly the columns of a {@link TodoDto}, joining only the assignee's id and username,
+     * so listing todos loads no entities (and none of the assignees' roles).
+     */
+    String SELECT_TODO_DTO = "select new com.homemanagement.dto.TodoDto(t.id, t.title, t.description, t.status, "
+            + "t.category, a.id, a.username, t.dueDate, t.createdAt, t.completedAt, t.householdId) "
+            + "from Todo t join t.assignedTo a ";
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
     List<Todo> findByAssignedToUsername(String username);
-}
\ No newline at end of file
+
+    @Query(SELECT_TODO_DTO)
+    List<TodoDto> findAllDtos();
+
+    @Query(SELECT_TODO_DTO + "where a.username = :username")
+    List<TodoDto> findDtosByAssigneeUsername(@Param("username") String username);
+
+    @Query(SELECT_TODO_DTO + "where t.id in :ids")
+    List<TodoDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t from Todo t join fetch t.assignedTo where t.id in :ids")
+    List<Todo> findAllWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find a todo only if it is assigned to the given user; admins match every todo.
+     * The assignee is fetched through a fetch graph, which leaves its eager roles unloaded.
+     */
+    @Query("select t from Todo t where t.id = :id and (:admin = true or t.assignedTo.id = :userId)")
+    @EntityGraph(attributePaths = "assignedTo", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Todo> findByIdForUser(@Param("id") Long id, @Param("userId") Long userId, @Param("admin") boolean admin);
+
+    /**
+     * Stream all todos in id order through a forward-only cursor; must be consumed inside a transaction.
+     */
+    @Query(SELECT_TODO_DTO + "order by t.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TodoDto> streamAllDtos();
+
+    /**
+     * One page of the open todos due up to a date, in {@code (dueDate, id)} order after the given position;
+     * a range scan of the due date index.
+     */
+    @Query(SELECT_TODO_DTO + "where t.status <> com.homemanagement.domain.Todo.TodoStatus.COMPLETED "
+            + "and (t.dueDate > :afterDate or (t.dueDate = :afterDate and t.id > :afterId)) "
+            + "and t.dueDate <= :until order by t.dueDate, t.id")
+    List<TodoDto> findOpenDtosDueBetween(@Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+                                         @Param("until") LocalDate until, Limit limit);
+
+    @Query("select t.assignedTo.id as userId, t.status as status, count(t) as count "
+            + "from Todo t group by t.assignedTo.id, t.status")
+    List<TodoStatusCount> countByAssigneeAndStatus();
+
+    @Query("select t.assignedTo.id as userId, t.status as status, count(t) as count "
+            + "from Todo t where t.assignedTo.id = :userId group by t.assignedTo.id, t.status")
+    List<TodoStatusCount> countByAssigneeAndStatus(@Param("userId") Long userId);
+
+    @Query("select t.assignedTo.username as username, t.status as status, t.category as category, "
+            + "count(t) as count, count(t.completedAt) as completedCount, "
+            + "sum((t.completedAt - t.createdAt) by second) as completionSeconds "
+            + "from Todo t group by t.assignedTo.username, t.status, t.category")
+    List<TodoStatisticsRow> summarizeByAssignee();
+
+    @Query("select t.assignedTo.username as username, t.dueDate as dueDate, count(t) as count "
+            + "from Todo t where t.status <> com.homemanagement.domain.Todo.TodoStatus.COMPLETED "
+            + "and t.dueDate is not null group by t.assignedTo.username, t.dueDate")
+    List<TodoDueDateCount> countOpenByAssigneeAndDueDate();
+
+    @Query("select t.id as id, t.title as title, t.description as description from Todo t")
+    List<TodoSearchText> findAllSearchTexts();
+
+    @Query("select t.id as id, t.title as title, t.description as description "
+            + "from Todo t where t.assignedTo.username = :username")
+    List<TodoSearchText> findSearchTextsByUsername(@Param("username") String username);
+
+    // The queries below are native so they also see soft-deleted rows (tombstones);
+    // the household filter does not apply to them
+
+    @Query(value = "select * from todos t where (t.user_id = :userId or t.previous_user_id = :userId) "
+            + "and t.last_modified > :since", nativeQuery = true)
+    List<Todo> findChangedSinceIncludingDeleted(@Param("userId") Long userId, @Param("since") Instant since);
+
+    @Query(value = "select * from todos t where t.household_id = :householdId and t.last_modified > :since",
+            nativeQuery = true)
+    List<Todo> findChangedInHouseholdSinceIncludingDeleted(@Param("householdId") Long householdId,
+                                                           @Param("since") Instant since);
+
+    @Modifying
+    @Query(value = "delete from todos where deleted = true and last_modified < :cutoff", nativeQuery = true)
+    int purgeDeletedBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Purge the tombstones of a user ahead of the retention period, as they reference the user.
+     * Clears the persistence context, which may still hold the purged todos.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from todos where deleted = true and user_id = :userId", nativeQuery = true)
+    int purgeDeletedByAssignee(@Param("userId") Long userId);
+}
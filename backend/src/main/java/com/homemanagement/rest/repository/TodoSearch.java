@@ -0,0 +1,36 @@
+package com.homemanagement.rest.repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Full-text search over todo titles and descriptions.
+ * Every term of the query must match, either as a word or as the prefix of a word
+ * (so partially typed words find results); titles weigh more than descriptions.
+ * The implementation is selected with {@code todos.search.engine}.
+ */
+public interface TodoSearch {
+
+    /**
+     * Find matching todos.
+     *
+     * @param terms    Search terms, as returned by {@link #terms(String)}; never empty
+     * @param username Only search todos assigned to this user, or null to search all todos
+     * @param limit    Maximum number of results
+     * @return Ids of the matching todos, best match first
+     */
+    List<Long> search(List<String> terms, String username, int limit);
+
+    /**
+     * Split a user-entered query into lower-case words, dropping punctuation and operators.
+     */
+    static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
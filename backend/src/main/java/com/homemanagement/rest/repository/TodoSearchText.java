@@ -0,0 +1,10 @@
+package com.homemanagement.rest.repository;
+
+/**
+ * The searchable text of a todo.
+ */
+public interface TodoSearchText {
+    Long getId();
+    String getTitle();
+    String getDescription();
+}
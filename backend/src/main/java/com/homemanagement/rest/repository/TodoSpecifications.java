@@ -0,0 +1,74 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Reusable query predicates for filtering and keyset-paginating todos.
+ * All predicates are null-safe: a null argument yields no restriction.
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+        // Utility class - prevent instantiation
+    }
+
+    public static Specification<Todo> hasStatus(Todo.TodoStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Todo> hasCategory(Todo.TodoCategory category) {
+        return (root, query, cb) -> category == null ? null : cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Todo> isAssignedTo(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("assignedTo").get("id"), userId);
+    }
+
+    public static Specification<Todo> isAssignedTo(String username) {
+        return (root, query, cb) -> username == null ? null : cb.equal(root.get("assignedTo").get("username"), username);
+    }
+
+    public static Specification<Todo> dueBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) {
+                return null;
+            }
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get("dueDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+            }
+            return cb.between(root.get("dueDate"), from, to);
+        };
+    }
+
+    public static Specification<Todo> hasNoDueDate() {
+        return (root, query, cb) -> cb.isNull(root.get("dueDate"));
+    }
+
+    /**
+     * Keyset predicate matching rows strictly after the given position in
+     * {@code dueDate ASC NULLS LAST, id ASC} order, within the position's block: later dated todos
+     * for a dated position, later todos without a due date otherwise. Either way the index on
+     * {@code (due_date, id)} is entered at the position rather than scanned from its start;
+     * callers continue a dated position into the undated block with {@link #hasNoDueDate()}.
+     */
+    public static Specification<Todo> after(LocalDate dueDate, Long id) {
+        return (root, query, cb) -> {
+            if (id == null) {
+                return null;
+            }
+            if (dueDate == null) {
+                return cb.and(cb.isNull(root.get("dueDate")), cb.greaterThan(root.get("id"), id));
+            }
+            // A range bound on the leading column; the tie-break only filters the rows of the first date
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("dueDate"), dueDate),
+                    cb.or(cb.greaterThan(root.get("dueDate"), dueDate), cb.greaterThan(root.get("id"), id)));
+        };
+    }
+}
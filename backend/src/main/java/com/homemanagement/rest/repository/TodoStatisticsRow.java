@@ -0,0 +1,16 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.Todo;
+
+/**
+ * Todo counts of one assignee, status and category, with the summed completion time
+ * of the completed todos among them.
+ */
+public interface TodoStatisticsRow {
+    String getUsername();
+    Todo.TodoStatus getStatus();
+    Todo.TodoCategory getCategory();
+    Long getCount();
+    Long getCompletedCount();
+    Number getCompletionSeconds();
+}
@@ -0,0 +1,12 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.Todo;
+
+/**
+ * Projection of a grouped todo count per assignee and status.
+ */
+public interface TodoStatusCount {
+    Long getUserId();
+    Todo.TodoStatus getStatus();
+    long getCount();
+}
@@ -0,0 +1,99 @@
+package com.homemanagement.rest.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * In-process search for databases without full-text support (the H2 test database).
+ * Scans the candidate todos and scores words by prefix match or, failing that, by
+ * trigram similarity as in Postgres' pg_trgm, which also tolerates small typos.
+ * Cost grows with the number of todos searched, so it is not meant for production data.
+ */
+@Repository
+@ConditionalOnProperty(name = "todos.search.engine", havingValue = "trigram")
+@RequiredArgsConstructor
+public class TrigramTodoSearch implements TodoSearch {
+
+    /** Minimum similarity for a word to match a term, the pg_trgm default. */
+    static final double SIMILARITY_THRESHOLD = 0.3;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+
+    private final TodoRepository todoRepository;
+
+    @Override
+    public List<Long> search(List<String> terms, String username, int limit) {
+        List<TodoSearchText> candidates = username == null
+                ? todoRepository.findAllSearchTexts()
+                : todoRepository.findSearchTextsByUsername(username);
+
+        return candidates.stream()
+                .map(todo -> new Match(todo.getId(), score(terms, todo)))
+                .filter(match -> match.score() > 0)
+                .sorted(Comparator.comparingDouble(Match::score).reversed().thenComparing(Match::id))
+                .limit(limit)
+                .map(Match::id)
+                .toList();
+    }
+
+    /**
+     * Sum of the best score of each term, or 0 if any term matches nothing.
+     */
+    private double score(List<String> terms, TodoSearchText todo) {
+        List<String> titleWords = TodoSearch.terms(todo.getTitle());
+        List<String> descriptionWords = TodoSearch.terms(todo.getDescription());
+        double total = 0;
+        for (String term : terms) {
+            double best = Math.max(bestWordScore(term, titleWords),
+                    DESCRIPTION_WEIGHT * bestWordScore(term, descriptionWords));
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private double bestWordScore(String term, List<String> words) {
+        double best = 0;
+        for (String word : words) {
+            if (word.startsWith(term)) {
+                return 1;
+            }
+            double similarity = similarity(term, word);
+            if (similarity >= SIMILARITY_THRESHOLD && similarity > best) {
+                best = similarity;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Shared trigrams divided by all distinct trigrams of both words, padded like pg_trgm.
+     */
+    static double similarity(String a, String b) {
+        Set<String> left = trigrams(a);
+        Set<String> right = trigrams(b);
+        int all = left.size() + right.size();
+        left.retainAll(right);
+        return (double) left.size() / (all - left.size());
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = "  " + word.toLowerCase(Locale.ROOT) + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private record Match(Long id, double score) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.homemanagement.rest.repository;
+
+/**
+ * Projection of a user's id, username and household.
+ */
+public interface UserIdentity {
+    Long getId();
+    String getUsername();
+    Long getHouseholdId();
+}
@@ -0,0 +1,14 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.User;
+
+import java.util.Optional;
+
+/**
+ * Username lookups by natural id, which Hibernate answers from the second-level
+ * cache instead of running a query.
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByUsername(String username);
+}
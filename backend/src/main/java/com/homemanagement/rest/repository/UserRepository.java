@@ -1,9 +1,42 @@
 package com.homemanagement.rest.repository;
 
 import com.homemanagement.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+/**
+ * Users are held in the Hibernate second-level cache; {@code findByUsername} is a cached
+ * natural-id lookup (see {@link UserNaturalIdRepository}).
+ */
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
+
+    @Query("select u.tokenVersion from User u where u.username = :username")
+    Optional<Long> findTokenVersionByUsername(@Param("username") String username);
+
+    @Query("select u.id as id, u.username as username, u.householdId as householdId "
+            + "from User u where u.username in :usernames")
+    List<UserIdentity> findIdentitiesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Native, so it sees the usernames of every household; usernames are unique across households.
+     */
+    @Query(value = "select u.username from users u where u.username in :usernames", nativeQuery = true)
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Load all users with their roles in a single statement instead of one roles select per user.
+     * The result is kept in the query cache until the users table changes.
+     */
+    @Override
+    @EntityGraph(attributePaths = "roles")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<User> findAll();
+}
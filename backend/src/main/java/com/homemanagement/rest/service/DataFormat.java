@@ -0,0 +1,43 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats accepted by the import and produced by the export endpoints.
+ */
+public enum DataFormat {
+    NDJSON(MediaType.parseMediaType(DataFormat.NDJSON_VALUE), "ndjson"),
+    CSV(MediaType.parseMediaType(DataFormat.CSV_VALUE), "csv");
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * The format of a request body with the given content type.
+     */
+    public static DataFormat of(MediaType contentType) {
+        for (DataFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported content type: " + contentType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,135 @@
+package com.homemanagement.rest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads import records one at a time from an NDJSON or CSV body and binds them to a DTO type.
+ * CSV bodies start with a header naming the DTO properties; empty fields are left unset and
+ * values of list columns are separated by semicolons. Malformed records are returned with
+ * their errors instead of failing the whole import.
+ */
+final class ImportReader<T> {
+
+    record Record<T>(long line, T value, List<String> errors) {
+
+        boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    private final DataFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final Set<String> listColumns;
+    private CsvReader csvReader;
+    private List<String> header;
+    private long line;
+
+    ImportReader(DataFormat format, InputStream inputStream, ObjectMapper objectMapper,
+                 Class<T> type, Set<String> listColumns) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.listColumns = listColumns;
+    }
+
+    /**
+     * The next record, or null at the end of the input. Blank lines are skipped.
+     */
+    Record<T> next() throws IOException {
+        return format == DataFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private Record<T> nextNdjson() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return new Record<>(line, objectMapper.readValue(text, type), List.of());
+        } catch (JsonProcessingException e) {
+            return new Record<>(line, null, List.of(describe(e)));
+        }
+    }
+
+    private Record<T> nextCsv() throws IOException {
+        if (csvReader == null) {
+            csvReader = new CsvReader(reader);
+            List<String> names = csvReader.readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = names.stream().map(String::trim).collect(Collectors.toList());
+        }
+
+        List<String> fields;
+        do {
+            fields = csvReader.readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        long recordLine = csvReader.getRecordLine();
+        if (fields.size() != header.size()) {
+            return new Record<>(recordLine, null,
+                    List.of("Expected " + header.size() + " fields but found " + fields.size()));
+        }
+
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (listColumns.contains(header.get(i))) {
+                ArrayNode values = node.putArray(header.get(i));
+                for (String item : value.split(";")) {
+                    if (!item.isBlank()) {
+                        values.add(item.trim());
+                    }
+                }
+            } else {
+                node.put(header.get(i), value);
+            }
+        }
+
+        try {
+            return new Record<>(recordLine, objectMapper.treeToValue(node, type), List.of());
+        } catch (JsonProcessingException e) {
+            return new Record<>(recordLine, null, List.of(describe(e)));
+        }
+    }
+
+    private static String describe(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null
+                            ? reference.getFieldName()
+                            : String.valueOf(reference.getIndex()))
+                    .collect(Collectors.joining("."));
+            return field + ": invalid value";
+        }
+        return "Malformed record: " + e.getOriginalMessage();
+    }
+}
@@ -0,0 +1,278 @@
+package com.homemanagement.rest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.dto.CreateUserRequest;
+import com.homemanagement.dto.ImportRejectionDto;
+import com.homemanagement.dto.ImportReportDto;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.BulkLoader;
+import com.homemanagement.rest.repository.UserIdentity;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.HouseholdContext;
+import com.homemanagement.security.PooledPasswordEncoder;
+import com.homemanagement.security.RoleConstants;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of users and todos from CSV or NDJSON (admin only, enforced at controller level).
+ * <p>
+ * Records are read and validated one at a time and written in chunks: each chunk costs
+ * one lookup of the usernames it references and one {@link BulkLoader} insert per table,
+ * instead of several statements per record. The passwords of a chunk are hashed concurrently
+ * on the password hashing pool before any of its rows is written. Invalid records are skipped
+ * and reported; the valid ones are imported in a single transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private static final List<String> USER_COLUMNS =
+            List.of("username", "password", "email", "created_at", "token_version", "household_id");
+    private static final List<String> USER_ROLE_COLUMNS = List.of("user_id", "role");
+    private static final List<String> TODO_COLUMNS = List.of("title", "description", "status", "category",
+            "user_id", "due_date", "created_at", "completed_at", "last_modified", "deleted", "household_id");
+
+    private final UserRepository userRepository;
+    private final BulkLoader bulkLoader;
+    private final PooledPasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Import users into the household of the authenticated user. Records have the properties of
+     * {@link CreateUserRequest}; in CSV, roles are separated by semicolons. Users default to
+     * {@link RoleConstants#USER}, like created ones.
+     */
+    @Transactional
+    public ImportReportDto importUsers(DataFormat format, InputStream body) throws IOException {
+        ImportReader<CreateUserRequest> reader =
+                new ImportReader<>(format, body, objectMapper, CreateUserRequest.class, Set.of("roles"));
+        Report report = new Report();
+        Set<String> usernames = new HashSet<>();
+        List<ImportReader.Record<CreateUserRequest>> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        for (ImportReader.Record<CreateUserRequest> record = reader.next(); record != null; record = reader.next()) {
+            List<String> errors = validate(record);
+            if (errors.isEmpty() && !usernames.add(record.value().getUsername())) {
+                errors = List.of("Duplicate username in import: " + record.value().getUsername());
+            }
+            if (!errors.isEmpty()) {
+                report.reject(record.line(), errors);
+                continue;
+            }
+
+            chunk.add(record);
+            if (chunk.size() == CHUNK_SIZE) {
+                loadUsers(chunk, report);
+                chunk.clear();
+            }
+        }
+        loadUsers(chunk, report);
+
+        // The rows bypassed Hibernate, so cached user listings would not notice them
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+            }
+        });
+        return report.toDto();
+    }
+
+    /**
+     * Import todos. Records have the properties of {@link TodoDto} and name their assignee
+     * by {@code assignedToUsername}, who must be in the household of the authenticated user;
+     * the status defaults to pending.
+     */
+    @Transactional
+    public ImportReportDto importTodos(DataFormat format, InputStream body) throws IOException {
+        ImportReader<TodoDto> reader = new ImportReader<>(format, body, objectMapper, TodoDto.class, Set.of());
+        Report report = new Report();
+        Map<String, UserIdentity> identities = new HashMap<>();
+        Set<String> assignees = new HashSet<>();
+        List<ImportReader.Record<TodoDto>> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        for (ImportReader.Record<TodoDto> record = reader.next(); record != null; record = reader.next()) {
+            List<String> errors = validate(record);
+            if (errors.isEmpty() && (record.value().getAssignedToUsername() == null
+                    || record.value().getAssignedToUsername().isBlank())) {
+                errors = List.of("Assignee username is required");
+            }
+            if (!errors.isEmpty()) {
+                report.reject(record.line(), errors);
+                continue;
+            }
+
+            chunk.add(record);
+            if (chunk.size() == CHUNK_SIZE) {
+                loadTodos(chunk, identities, assignees, report);
+                chunk.clear();
+            }
+        }
+        loadTodos(chunk, identities, assignees, report);
+
+        if (!assignees.isEmpty()) {
+            eventPublisher.publishEvent(new TodosImportedEvent(assignees));
+        }
+        return report.toDto();
+    }
+
+    private void loadUsers(List<ImportReader.Record<CreateUserRequest>> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(chunk.stream()
+                .map(record -> record.value().getUsername())
+                .collect(Collectors.toSet())));
+
+        List<CreateUserRequest> accepted = new ArrayList<>(chunk.size());
+        for (ImportReader.Record<CreateUserRequest> record : chunk) {
+            CreateUserRequest user = record.value();
+            if (existing.contains(user.getUsername())) {
+                report.reject(record.line(), List.of("Username already exists: " + user.getUsername()));
+                continue;
+            }
+            accepted.add(user);
+        }
+
+        List<String> hashes = passwordEncoder.encodeAll(accepted.stream().map(CreateUserRequest::getPassword).toList());
+        LocalDateTime now = LocalDateTime.now();
+        long householdId = HouseholdContext.currentHouseholdIdOrDefault();
+        List<Object[]> rows = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            CreateUserRequest user = accepted.get(i);
+            rows.add(new Object[] {user.getUsername(), hashes.get(i), user.getEmail(), now, 0L, householdId});
+        }
+        bulkLoader.load("users", USER_COLUMNS, rows);
+
+        // Generated ids are not returned by COPY, so look them up to insert the roles
+        Map<String, UserIdentity> ids = findIdentities(accepted.stream()
+                .map(CreateUserRequest::getUsername)
+                .collect(Collectors.toSet()));
+        List<Object[]> roleRows = new ArrayList<>(accepted.size());
+        for (CreateUserRequest user : accepted) {
+            Set<String> roles = user.getRoles() == null || user.getRoles().isEmpty()
+                    ? Set.of(RoleConstants.USER)
+                    : user.getRoles();
+            for (String role : roles) {
+                roleRows.add(new Object[] {ids.get(user.getUsername()).getId(), role});
+            }
+        }
+        bulkLoader.load("user_roles", USER_ROLE_COLUMNS, roleRows);
+        report.imported += accepted.size();
+    }
+
+    private void loadTodos(List<ImportReader.Record<TodoDto>> chunk, Map<String, UserIdentity> identities,
+                           Set<String> assignees, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Usernames resolved by earlier chunks are remembered; the rest take one query
+        Set<String> unresolved = chunk.stream()
+                .map(record -> record.value().getAssignedToUsername())
+                .filter(username -> !identities.containsKey(username))
+                .collect(Collectors.toSet());
+        if (!unresolved.isEmpty()) {
+            identities.putAll(findIdentities(unresolved));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Instant modified = Instant.now();
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (ImportReader.Record<TodoDto> record : chunk) {
+            TodoDto todo = record.value();
+            UserIdentity assignee = identities.get(todo.getAssignedToUsername());
+            if (assignee == null) {
+                report.reject(record.line(), List.of("Assigned user not found: " + todo.getAssignedToUsername()));
+                continue;
+            }
+
+            Todo.TodoStatus status = todo.getStatus() != null ? todo.getStatus() : Todo.TodoStatus.PENDING;
+            LocalDateTime completedAt = status != Todo.TodoStatus.COMPLETED
+                    ? null
+                    : todo.getCompletedAt() != null ? todo.getCompletedAt() : now;
+            rows.add(new Object[] {
+                    todo.getTitle(), todo.getDescription(), status, todo.getCategory(), assignee.getId(),
+                    todo.getDueDate(), todo.getCreatedAt() != null ? todo.getCreatedAt() : now, completedAt, modified,
+                    false, assignee.getHouseholdId()});
+            assignees.add(todo.getAssignedToUsername());
+        }
+        bulkLoader.load("todos", TODO_COLUMNS, rows);
+        report.imported += rows.size();
+    }
+
+    /**
+     * Identities of the users with the given names in the current household, by username.
+     */
+    private Map<String, UserIdentity> findIdentities(Set<String> usernames) {
+        return userRepository.findIdentitiesByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(UserIdentity::getUsername, Function.identity()));
+    }
+
+    private <T> List<String> validate(ImportReader.Record<T> record) {
+        if (!record.isValid()) {
+            return record.errors();
+        }
+        return validator.validate(record.value()).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts of one import; only the rejections of the first lines are kept.
+     */
+    private static final class Report {
+        private long imported;
+        private long rejected;
+        /** Lookups reject records when their chunk is written, after later lines were validated. */
+        private final PriorityQueue<ImportRejectionDto> rejections = new PriorityQueue<>(
+                Comparator.comparingLong(ImportRejectionDto::getLine).reversed());
+
+        void reject(long line, List<String> errors) {
+            rejected++;
+            rejections.add(new ImportRejectionDto(line, errors));
+            if (rejections.size() > MAX_REPORTED_REJECTIONS) {
+                rejections.poll();
+            }
+        }
+
+        ImportReportDto toDto() {
+            List<ImportRejectionDto> firstRejections = new ArrayList<>(rejections);
+            firstRejections.sort(Comparator.comparingLong(ImportRejectionDto::getLine));
+            return new ImportReportDto(imported, rejected, firstRejections);
+        }
+    }
+}
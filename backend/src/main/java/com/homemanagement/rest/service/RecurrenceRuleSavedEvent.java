@@ -0,0 +1,12 @@
+package com.homemanagement.rest.service;
+
+import java.time.LocalDate;
+
+/**
+ * Published by {@link RecurrenceService} when a rule was created, so {@link RecurrenceScheduler} can queue it.
+ *
+ * @param ruleId         Id of the rule
+ * @param nextOccurrence Due date of its first occurrence, or null if it has none
+ */
+public record RecurrenceRuleSavedEvent(Long ruleId, LocalDate nextOccurrence) {
+}
@@ -0,0 +1,218 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.domain.RecurrenceRule;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.rest.repository.BulkLoader;
+import com.homemanagement.rest.repository.RecurrenceRuleRepository;
+import com.homemanagement.rest.repository.RecurrenceRuleSchedule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Creates the occurrences of recurrence rules as todos, {@code lookahead} days before they fall due.
+ * <p>
+ * Rules due within the lookahead plus a {@code preload} window are held in a priority queue ordered by
+ * their next occurrence, so a tick only touches the rules that are due; the rules table is read again
+ * (an index range scan on the next occurrence) only when the lookahead moves past the preloaded window.
+ * The database stays authoritative: queued rules are reloaded before their occurrences are created.
+ * <p>
+ * Occurrences are written with multi-row inserts that skip rows violating the one-todo-per-occurrence
+ * constraint, and the rule's next occurrence advances in the same transaction, so running again after a
+ * restart, or on another instance, creates no duplicates. Occurrences that fell due while the
+ * scheduler was not running are skipped rather than created late.
+ */
+@Slf4j
+@Service
+public class RecurrenceScheduler {
+
+    private static final List<String> TODO_COLUMNS = List.of("title", "description", "status", "category",
+            "user_id", "due_date", "created_at", "last_modified", "deleted", "recurrence_rule_id", "household_id");
+
+    private final RecurrenceRuleRepository recurrenceRuleRepository;
+    private final BulkLoader bulkLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long lookaheadDays;
+    private final long preloadDays;
+    private final int batchSize;
+
+    private final PriorityQueue<QueuedRule> queue = new PriorityQueue<>(
+            Comparator.comparing(QueuedRule::nextOccurrence).thenComparing(QueuedRule::ruleId));
+
+    /**
+     * Rules with a next occurrence up to this date are in the queue; null until the first tick.
+     */
+    private LocalDate loadedUntil;
+
+    public RecurrenceScheduler(RecurrenceRuleRepository recurrenceRuleRepository,
+                               BulkLoader bulkLoader,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${todos.recurrence.lookahead}") Duration lookahead,
+                               @Value("${todos.recurrence.preload}") Duration preload,
+                               @Value("${todos.recurrence.batch-size}") int batchSize) {
+        this.recurrenceRuleRepository = recurrenceRuleRepository;
+        this.bulkLoader = bulkLoader;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lookaheadDays = lookahead.toDays();
+        this.preloadDays = Math.max(preload.toDays(), 1);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${todos.recurrence.tick-interval}")
+    public void createDueOccurrences() {
+        createDueOccurrences(LocalDate.now());
+    }
+
+    /**
+     * Create all occurrences due by {@code today} plus the lookahead.
+     *
+     * @return The number of todos created
+     */
+    synchronized int createDueOccurrences(LocalDate today) {
+        LocalDate horizon = today.plusDays(lookaheadDays);
+        preload(horizon);
+
+        int created = 0;
+        try {
+            for (List<Long> due = pollDue(horizon); !due.isEmpty(); due = pollDue(horizon)) {
+                created += createOccurrences(due, today, horizon);
+            }
+        } catch (RuntimeException e) {
+            // The rules of the failed batch have left the queue; reload it on the next tick
+            reset();
+            throw e;
+        }
+        if (created > 0) {
+            log.info("Created {} recurring todo occurrences due by {}", created, horizon);
+        }
+        return created;
+    }
+
+    /**
+     * Queue a new rule if it falls within the preloaded window; later ones are found by the next preload.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleSaved(RecurrenceRuleSavedEvent event) {
+        if (event.nextOccurrence() != null) {
+            enqueue(event.ruleId(), event.nextOccurrence());
+        }
+    }
+
+    /**
+     * Forget the queue, as after a restart; the next tick reloads it from the database.
+     */
+    synchronized void reset() {
+        synchronized (queue) {
+            queue.clear();
+            loadedUntil = null;
+        }
+    }
+
+    /**
+     * Queue the rules due up to the preload window past the horizon, unless they were queued already.
+     * Holds the queue while reading, so a rule saved meanwhile is either found here or queued by its event.
+     */
+    private void preload(LocalDate horizon) {
+        synchronized (queue) {
+            if (loadedUntil != null && !horizon.isAfter(loadedUntil)) {
+                return;
+            }
+
+            LocalDate until = horizon.plusDays(preloadDays);
+            List<RecurrenceRuleSchedule> schedules = loadedUntil == null
+                    ? recurrenceRuleRepository.findSchedulesDueBy(until)
+                    : recurrenceRuleRepository.findSchedulesDueBetween(loadedUntil, until);
+            for (RecurrenceRuleSchedule schedule : schedules) {
+                queue.add(new QueuedRule(schedule.getId(), schedule.getNextOccurrence()));
+            }
+            loadedUntil = until;
+        }
+    }
+
+    private void enqueue(Long ruleId, LocalDate nextOccurrence) {
+        synchronized (queue) {
+            if (loadedUntil != null && !nextOccurrence.isAfter(loadedUntil)) {
+                queue.add(new QueuedRule(ruleId, nextOccurrence));
+            }
+        }
+    }
+
+    /**
+     * Remove up to one batch of distinct rules due by the horizon from the queue.
+     */
+    private List<Long> pollDue(LocalDate horizon) {
+        Set<Long> due = new LinkedHashSet<>();
+        synchronized (queue) {
+            while (due.size() < batchSize && !queue.isEmpty() && !queue.peek().nextOccurrence().isAfter(horizon)) {
+                due.add(queue.poll().ruleId());
+            }
+        }
+        return new ArrayList<>(due);
+    }
+
+    /**
+     * Create the occurrences of the rules up to the horizon and advance their next occurrence, in one transaction.
+     * Rules deleted in the meantime are dropped; rules still due within the preloaded window are queued again.
+     */
+    private int createOccurrences(List<Long> ruleIds, LocalDate today, LocalDate horizon) {
+        List<RecurrenceRule> rules = new ArrayList<>();
+        Integer created = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Instant modified = Instant.now();
+            List<Object[]> rows = new ArrayList<>();
+            Set<String> assignees = new HashSet<>();
+
+            for (RecurrenceRule rule : recurrenceRuleRepository.findAllWithAssigneeByIdIn(ruleIds)) {
+                LocalDate next = rule.getNextOccurrence();
+                while (next != null && next.isBefore(today)) {
+                    next = rule.occurrenceAfter(next);
+                }
+                while (next != null && !next.isAfter(horizon)) {
+                    rows.add(new Object[] {rule.getTitle(), rule.getDescription(), Todo.TodoStatus.PENDING,
+                            rule.getCategory(), rule.getAssignedTo().getId(), next, now, modified, false, rule.getId(),
+                            rule.getHouseholdId()});
+                    assignees.add(rule.getAssignedTo().getUsername());
+                    next = rule.occurrenceAfter(next);
+                }
+                rule.setNextOccurrence(next);
+                rules.add(rule);
+            }
+
+            int inserted = bulkLoader.insertSkippingDuplicates("todos", TODO_COLUMNS, rows);
+            if (inserted > 0) {
+                eventPublisher.publishEvent(new TodosImportedEvent(assignees));
+            }
+            return inserted;
+        });
+
+        for (RecurrenceRule rule : rules) {
+            if (rule.getNextOccurrence() != null) {
+                enqueue(rule.getId(), rule.getNextOccurrence());
+            }
+        }
+        return created != null ? created : 0;
+    }
+
+    private record QueuedRule(long ruleId, LocalDate nextOccurrence) {
+    }
+}
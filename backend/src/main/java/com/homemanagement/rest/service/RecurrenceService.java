@@ -0,0 +1,86 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.domain.RecurrenceRule;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.RecurrenceRuleDto;
+import com.homemanagement.exception.BadRequestException;
+import com.homemanagement.exception.ResourceNotFoundException;
+import com.homemanagement.mapper.RecurrenceRuleMapper;
+import com.homemanagement.rest.repository.RecurrenceRuleRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for managing recurrence rules; the occurrences themselves are created by {@link RecurrenceScheduler}.
+ * Admins manage every rule, regular users only their own.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurrenceService {
+
+    private final RecurrenceRuleRepository recurrenceRuleRepository;
+    private final UserRepository userRepository;
+    private final RecurrenceRuleMapper recurrenceRuleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Get the rules visible to the caller: all of them for admins, otherwise their own.
+     */
+    @Transactional(readOnly = true)
+    public List<RecurrenceRuleDto> getRules(UserPrincipal principal) {
+        List<RecurrenceRule> rules = principal.isAdmin()
+                ? recurrenceRuleRepository.findAllWithAssignee()
+                : recurrenceRuleRepository.findByAssigneeId(principal.getId());
+        return rules.stream()
+                .map(recurrenceRuleMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create a rule. Its first occurrence is the first one on or after today;
+     * occurrences before today are not created.
+     */
+    @Transactional
+    public RecurrenceRuleDto createRule(RecurrenceRuleDto ruleDto, UserPrincipal principal) {
+        // Non-admin users can only create rules for themselves
+        if (!principal.isAdmin() && !principal.getId().equals(ruleDto.getAssignedToId())) {
+            throw new AccessDeniedException("You can only create recurring todos for yourself");
+        }
+        if (ruleDto.getEndDate() != null && ruleDto.getEndDate().isBefore(ruleDto.getStartDate())) {
+            throw new BadRequestException("End date must not be before the start date");
+        }
+
+        User assignedUser = userRepository.findById(ruleDto.getAssignedToId())
+                .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found"));
+
+        RecurrenceRule rule = recurrenceRuleMapper.toEntity(ruleDto);
+        rule.setAssignedTo(assignedUser);
+        rule.setHouseholdId(assignedUser.getHouseholdId());
+        rule.setNextOccurrence(rule.occurrenceAfter(LocalDate.now().minusDays(1)));
+        rule = recurrenceRuleRepository.save(rule);
+
+        eventPublisher.publishEvent(new RecurrenceRuleSavedEvent(rule.getId(), rule.getNextOccurrence()));
+        return recurrenceRuleMapper.toDto(rule);
+    }
+
+    /**
+     * Delete a rule. Occurrences already created are kept.
+     */
+    @Transactional
+    public void deleteRule(Long id, UserPrincipal principal) {
+        RecurrenceRule rule = recurrenceRuleRepository.findByIdForUser(id, principal.getId(), principal.isAdmin())
+                .orElseThrow(() -> recurrenceRuleRepository.existsById(id)
+                        ? new AccessDeniedException("You can only delete your own recurring todos")
+                        : new ResourceNotFoundException("Recurring todo not found"));
+        recurrenceRuleRepository.delete(rule);
+    }
+}
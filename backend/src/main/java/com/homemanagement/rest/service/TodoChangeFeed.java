@@ -0,0 +1,294 @@
+package com.homemanagement.rest.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed todo changes to Server-Sent Events subscribers.
+ * Each subscriber only receives the changes it may see: admins get every change,
+ * regular users only changes to todos assigned (or previously assigned) to them.
+ * <p>
+ * The most recent events are kept in a bounded in-memory ring so that a client
+ * reconnecting with {@code Last-Event-ID} receives what it missed. When the ring no
+ * longer covers the requested id (or the server restarted since), a {@code reset}
+ * event tells the client to reload the full list instead.
+ * <p>
+ * Events are only queued under the ring lock, which keeps each subscriber's queue in ring order;
+ * they are written to the connections from virtual threads, so a slow client never holds up the
+ * committing request or other subscribers. A subscriber whose queue fills up is disconnected, and
+ * resumes from the ring when it reconnects.
+ */
+@Service
+public class TodoChangeFeed implements DisposableBean {
+
+    static final String CHANGE_EVENT = "todo";
+    static final String RESET_EVENT = "reset";
+
+    /**
+     * Distinguishes event ids of this process from ids handed out before a restart.
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final int replaySize;
+    private final long timeout;
+    private final int queueSize;
+    private final ArrayDeque<Entry> ring;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("todo-feed-", 0).factory());
+    private long sequence;
+
+    public TodoChangeFeed(@Value("${todos.stream.replay-size}") int replaySize,
+                          @Value("${todos.stream.timeout}") long timeout,
+                          @Value("${todos.stream.queue-size}") int queueSize) {
+        this.replaySize = replaySize;
+        this.timeout = timeout;
+        this.queueSize = queueSize;
+        this.ring = new ArrayDeque<>(replaySize);
+    }
+
+    /**
+     * Open a stream for a user.
+     *
+     * @param householdId Household whose changes an admin receives, or {@code null} for all households
+     * @param lastEventId Value of the {@code Last-Event-ID} header, or {@code null} for a fresh subscription
+     */
+    public SseEmitter subscribe(String username, boolean admin, Long householdId, String lastEventId) {
+        return subscribe(new Subscriber(username, admin, householdId, new SseEmitter(timeout), queueSize),
+                lastEventId);
+    }
+
+    SseEmitter subscribe(Subscriber subscriber, String lastEventId) {
+        subscriber.emitter().onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter().onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter().onError(error -> subscribers.remove(subscriber));
+
+        // Registering and replaying under the ring lock guarantees no event falls in between
+        synchronized (ring) {
+            if (lastEventId != null) {
+                Optional<List<Entry>> missed = replay(lastEventId, subscriber);
+                if (missed.isEmpty()) {
+                    enqueue(subscriber, SseEmitter.event().name(RESET_EVENT).id(lastEventId()).data(""));
+                } else {
+                    for (Entry entry : missed.get()) {
+                        enqueue(subscriber, entry.toSse());
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        flush(subscriber);
+        return subscriber.emitter();
+    }
+
+    /**
+     * Record a committed change and push it to every subscriber allowed to see it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        List<Subscriber> recipients = new ArrayList<>();
+        synchronized (ring) {
+            long next = ++sequence;
+            Entry entry = new Entry(next, epoch + "-" + next, event);
+            if (ring.size() == replaySize) {
+                ring.removeFirst();
+            }
+            ring.addLast(entry);
+
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.canSee(event)) {
+                    enqueue(subscriber, entry.toSse());
+                    recipients.add(subscriber);
+                }
+            }
+        }
+        recipients.forEach(this::flush);
+    }
+
+    /**
+     * Imported todos come without change events: tell affected subscribers to reload, and
+     * empty the ring so clients resuming from before the import are told the same.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosImported(TodosImportedEvent event) {
+        List<Subscriber> recipients = new ArrayList<>();
+        synchronized (ring) {
+            ring.clear();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.admin() || event.usernames().contains(subscriber.username())) {
+                    enqueue(subscriber, SseEmitter.event().name(RESET_EVENT).id(lastEventId()).data(""));
+                    recipients.add(subscriber);
+                }
+            }
+        }
+        recipients.forEach(this::flush);
+    }
+
+    /**
+     * Keep idle connections open through proxies that drop silent streams.
+     */
+    @Scheduled(fixedDelayString = "${todos.stream.heartbeat-interval}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("keepalive"));
+            flush(subscriber);
+        }
+    }
+
+    /**
+     * Events after {@code lastEventId} visible to the subscriber, or empty if the ring
+     * cannot tell what the client missed.
+     */
+    Optional<List<Entry>> replay(String lastEventId, Subscriber subscriber) {
+        synchronized (ring) {
+            long last = parseSequence(lastEventId);
+            long oldest = ring.isEmpty() ? sequence + 1 : ring.peekFirst().sequence();
+            if (last < 0 || last > sequence || last < oldest - 1) {
+                return Optional.empty();
+            }
+            List<Entry> missed = new ArrayList<>();
+            Iterator<Entry> it = ring.descendingIterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.sequence() <= last) {
+                    break;
+                }
+                if (subscriber.canSee(entry.event())) {
+                    missed.add(0, entry);
+                }
+            }
+            return Optional.of(missed);
+        }
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Id of the most recent event.
+     */
+    String lastEventId() {
+        synchronized (ring) {
+            return epoch + "-" + sequence;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Queue an event without blocking; a subscriber that has fallen a full queue behind is disconnected.
+     * The emitter is left to the sending thread, which may be blocked writing to it.
+     */
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.pending.offer(event)) {
+            subscribers.remove(subscriber);
+            subscriber.overflowed = true;
+            subscriber.pending.clear();
+        }
+    }
+
+    /**
+     * Start sending the queued events of a subscriber, unless they are being sent already.
+     */
+    private void flush(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            sender.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending.poll()) != null) {
+                subscriber.emitter().send(event);
+            }
+            if (subscriber.overflowed) {
+                // The client resumes from the ring with Last-Event-ID when it reconnects
+                subscriber.emitter().complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks may not fire until the next write fails
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return;
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // An event queued after the last poll, while sending was still set, would otherwise wait for the next one
+        if (!subscriber.pending.isEmpty() || subscriber.overflowed) {
+            flush(subscriber);
+        }
+    }
+
+    static final class Subscriber {
+        private final String username;
+        private final boolean admin;
+        private final Long householdId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        Subscriber(String username, boolean admin, Long householdId, SseEmitter emitter, int queueSize) {
+            this.username = username;
+            this.admin = admin;
+            this.householdId = householdId;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        String username() {
+            return username;
+        }
+
+        boolean admin() {
+            return admin;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        boolean canSee(TodoChangedEvent event) {
+            return admin && (householdId == null || householdId.equals(event.todo().getHouseholdId()))
+                    || event.concerns(username);
+        }
+    }
+
+    record Entry(long sequence, String id, TodoChangedEvent event) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().name(CHANGE_EVENT).id(id).data(event);
+        }
+    }
+}
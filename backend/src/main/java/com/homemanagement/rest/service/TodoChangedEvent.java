@@ -0,0 +1,51 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.dto.TodoDto;
+
+/**
+ * Published by {@link TodoService} whenever a todo is created, updated or deleted.
+ *
+ * @param type   Kind of change
+ * @param before State before the change, or {@code null} for creations
+ * @param after  State after the change, or {@code null} for deletions
+ */
+public record TodoChangedEvent(Type type, TodoDto before, TodoDto after) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TodoChangedEvent created(TodoDto after) {
+        return new TodoChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static TodoChangedEvent updated(TodoDto before, TodoDto after) {
+        return new TodoChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static TodoChangedEvent deleted(TodoDto before) {
+        return new TodoChangedEvent(Type.DELETED, before, null);
+    }
+
+    /**
+     * Latest known state of the todo: after the change, or before it for deletions.
+     */
+    public TodoDto todo() {
+        return after != null ? after : before;
+    }
+
+    /**
+     * Username the todo was assigned to before the change, or {@code null} for creations.
+     */
+    public String previousAssignee() {
+        return before != null ? before.getAssignedToUsername() : null;
+    }
+
+    /**
+     * Whether a user that can only see their own todos should receive this event.
+     * A todo reassigned away from a user is still reported to them so they can drop it.
+     */
+    public boolean concerns(String username) {
+        return username.equals(todo().getAssignedToUsername()) || username.equals(previousAssignee());
+    }
+}
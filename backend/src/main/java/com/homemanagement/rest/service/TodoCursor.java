@@ -0,0 +1,40 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor pointing at the last todo of a page, encoded as
+ * URL-safe Base64 of {@code dueDate|id}.
+ */
+record TodoCursor(LocalDate dueDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static TodoCursor of(Todo todo) {
+        return new TodoCursor(todo.getDueDate(), todo.getId());
+    }
+
+    String encode() {
+        String raw = (dueDate == null ? "" : dueDate.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String date = raw.substring(0, separator);
+            return new TodoCursor(
+                    date.isEmpty() ? null : LocalDate.parse(date),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.homemanagement.rest.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export of all todos as NDJSON or CSV.
+ * Rows are read as DTO projections through a forward-only cursor and written one at a time,
+ * so memory use does not depend on the number of todos.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,category,assignedToId,assignedToUsername,dueDate,createdAt,completedAt";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write all todos to the stream (admin only, enforced at controller level).
+     * The stream is flushed but not closed.
+     *
+     * @return The number of todos written
+     */
+    @Transactional(readOnly = true)
+    public long export(DataFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count;
+
+        try (Stream<TodoDto> todos = todoRepository.streamAllDtos()) {
+            Iterator<TodoDto> rows = todos.iterator();
+            count = format == DataFormat.CSV ? writeCsv(rows, writer) : writeNdjson(rows, writer);
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<TodoDto> rows, Writer writer) throws IOException {
+        ObjectWriter objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rows.hasNext()) {
+                objectWriter.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<TodoDto> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long count = 0;
+
+        while (rows.hasNext()) {
+            TodoDto todo = rows.next();
+            writer.write(String.valueOf(todo.getId()));
+            writeCsvField(writer, todo.getTitle());
+            writeCsvField(writer, todo.getDescription());
+            writeCsvField(writer, todo.getStatus());
+            writeCsvField(writer, todo.getCategory());
+            writeCsvField(writer, todo.getAssignedToId());
+            writeCsvField(writer, todo.getAssignedToUsername());
+            writeCsvField(writer, todo.getDueDate());
+            writeCsvField(writer, todo.getCreatedAt());
+            writeCsvField(writer, todo.getCompletedAt());
+            writer.write("\r\n");
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Write a separator and the value, quoted as per RFC 4180 when needed; null becomes an empty field.
+     */
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+        } else {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
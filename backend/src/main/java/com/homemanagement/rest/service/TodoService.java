@@ -2,19 +2,34 @@ package com.homemanagement.rest.service;
 
 import com.homemanagement.domain.Todo;
 import com.homemanagement.domain.User;
+import com.homemanagement.dto.BulkTodoRequest;
+import com.homemanagement.dto.BulkTodoResultDto;
 import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.TodoFilter;
+import com.homemanagement.dto.TodoPageDto;
+import com.homemanagement.exception.BadRequestException;
 import com.homemanagement.exception.ResourceNotFoundException;
 import com.homemanagement.mapper.TodoMapper;
 import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.TodoSearch;
+import com.homemanagement.rest.repository.TodoSpecifications;
 import com.homemanagement.rest.repository.UserRepository;
-import com.homemanagement.security.RoleConstants;
+import com.homemanagement.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,49 +39,158 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TodoService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Keyset order; matches the trailing {@code (due_date, id)} columns of the todos indexes.
+     * Nulls sort last (see {@code hibernate.order_by.default_null_ordering}).
+     */
+    private static final Sort PAGE_SORT = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"));
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
     private final TodoMapper todoMapper;
+    private final TodoSearch todoSearch;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all todos (admin only, enforced at controller level).
      */
+    @Transactional(readOnly = true)
     public List<TodoDto> getAllTodos() {
-        return todoRepository.findAll().stream()
-                .map(todoMapper::toDto)
-                .collect(Collectors.toList());
+        return todoRepository.findAllDtos();
     }
 
     /**
      * Get todos for a specific user.
      */
+    @Transactional(readOnly = true)
     public List<TodoDto> getTodosByUsername(String username) {
-        return todoRepository.findByAssignedToUsername(username).stream()
-                .map(todoMapper::toDto)
+        return todoRepository.findDtosByAssigneeUsername(username);
+    }
+
+    /**
+     * Get one page of todos matching the filter, ordered by due date.
+     * Uses keyset pagination, so every page costs the same regardless of its position.
+     *
+     * @param filter   Optional status, category, assignee and due-date restrictions
+     * @param cursor   Cursor returned with the previous page, or null for the first page
+     * @param pageSize Requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     * @return The page of todos and the cursor of the next page, if any
+     */
+    @Transactional(readOnly = true)
+    public TodoPageDto getTodosPage(TodoFilter filter, String cursor, int pageSize) {
+        return findPage(toSpecification(filter, TodoSpecifications.isAssignedTo(filter.getAssignedToId())),
+                cursor, pageSize);
+    }
+
+    /**
+     * Get one page of todos assigned to a specific user.
+     * The assignee restriction of the filter is ignored in favour of the username.
+     */
+    @Transactional(readOnly = true)
+    public TodoPageDto getTodosPageByUsername(String username, TodoFilter filter, String cursor, int pageSize) {
+        return findPage(toSpecification(filter, TodoSpecifications.isAssignedTo(username)), cursor, pageSize);
+    }
+
+    /**
+     * Search all todos by title and description, best match first (admin only, enforced at controller level).
+     * Every word of the query also matches as a prefix, so this can back a type-ahead field.
+     */
+    @Transactional(readOnly = true)
+    public List<TodoDto> searchTodos(String query, int limit) {
+        return search(query, null, limit);
+    }
+
+    /**
+     * Search the todos assigned to a specific user by title and description, best match first.
+     */
+    @Transactional(readOnly = true)
+    public List<TodoDto> searchTodosByUsername(String username, String query, int limit) {
+        return search(query, username, limit);
+    }
+
+    private List<TodoDto> search(String query, String username, int limit) {
+        List<String> terms = TodoSearch.terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = todoSearch.search(terms, username, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        Map<Long, TodoDto> todosById = todoRepository.findDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(TodoDto::getId, Function.identity()));
+        return ids.stream()
+                .map(todosById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    private TodoPageDto findPage(Specification<Todo> specification, String cursor, int pageSize) {
+        int limit = Math.min(Math.max(pageSize, 1), MAX_PAGE_SIZE);
+        TodoCursor position = cursor != null && !cursor.isBlank() ? TodoCursor.decode(cursor) : null;
+
+        // Fetch one extra row to find out whether another page exists without a count query
+        List<Todo> rows = position == null
+                ? findRows(specification, limit + 1)
+                : findRows(specification.and(TodoSpecifications.after(position.dueDate(), position.id())), limit + 1);
+        if (position != null && position.dueDate() != null && rows.size() <= limit) {
+            // The dated todos ran out; the page continues into the todos without a due date
+            rows = new ArrayList<>(rows);
+            rows.addAll(findRows(specification.and(TodoSpecifications.hasNoDueDate()), limit + 1 - rows.size()));
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<Todo> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? TodoCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new TodoPageDto(
+                page.stream().map(todoMapper::toDto).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    /**
+     * The assignee is fetched in the same statement because the DTOs need its username.
+     */
+    private List<Todo> findRows(Specification<Todo> specification, int limit) {
+        return todoRepository.findBy(specification, query -> query
+                .project("assignedTo")
+                .sortBy(PAGE_SORT)
+                .limit(limit)
+                .all());
+    }
+
+    private Specification<Todo> toSpecification(TodoFilter filter, Specification<Todo> assignee) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new BadRequestException("dueFrom must not be after dueTo");
+        }
+        return Specification.allOf(
+                TodoSpecifications.hasStatus(filter.getStatus()),
+                TodoSpecifications.hasCategory(filter.getCategory()),
+                assignee,
+                TodoSpecifications.dueBetween(filter.getDueFrom(), filter.getDueTo()));
+    }
+
     /**
      * Create a new todo.
      * Admins can create todos for any user.
      * Regular users can only create todos for themselves.
      */
     @Transactional
-    public TodoDto createTodo(TodoDto todoDto, String currentUsername) {
-        User currentUser = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
-
-        User assignedUser = userRepository.findById(todoDto.getAssignedToId())
-                .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found"));
-
+    public TodoDto createTodo(TodoDto todoDto, UserPrincipal principal) {
         // Non-admin users can only create todos for themselves
-        if (!isAdmin(currentUser) && !assignedUser.getUsername().equals(currentUsername)) {
+        if (!principal.isAdmin() && !principal.getId().equals(todoDto.getAssignedToId())) {
             throw new AccessDeniedException("You can only create todos for yourself");
         }
 
+        User assignedUser = userRepository.findById(todoDto.getAssignedToId())
+                .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found"));
+
         Todo todo = todoMapper.toEntity(todoDto);
         todo.setAssignedTo(assignedUser);
-        return todoMapper.toDto(todoRepository.save(todo));
+        todo.setHouseholdId(assignedUser.getHouseholdId());
+        TodoDto created = todoMapper.toDto(todoRepository.save(todo));
+        eventPublisher.publishEvent(TodoChangedEvent.created(created));
+        return created;
     }
 
     /**
@@ -75,31 +199,19 @@ public class TodoService {
      * Regular users can only update their own todos.
      */
     @Transactional
-    public TodoDto updateTodo(Long id, TodoDto todoDto, String currentUsername) {
-        Todo existingTodo = todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
-
-        User currentUser = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
-
-        // Check ownership unless user is admin
-        if (!isAdmin(currentUser) && !existingTodo.getAssignedTo().getUsername().equals(currentUsername)) {
-            throw new AccessDeniedException("You can only update your own todos");
-        }
+    public TodoDto updateTodo(Long id, TodoDto todoDto, UserPrincipal principal) {
+        Todo existingTodo = findModifiableTodo(id, principal, "You can only update your own todos");
 
+        TodoDto before = todoMapper.toDto(existingTodo);
         existingTodo.setTitle(todoDto.getTitle());
         existingTodo.setDescription(todoDto.getDescription());
-        existingTodo.setStatus(todoDto.getStatus());
         existingTodo.setCategory(todoDto.getCategory());
         existingTodo.setDueDate(todoDto.getDueDate());
+        applyStatus(existingTodo, todoDto.getStatus());
 
-        if (todoDto.getStatus() == Todo.TodoStatus.COMPLETED && existingTodo.getCompletedAt() == null) {
-            existingTodo.setCompletedAt(LocalDateTime.now());
-        } else if (todoDto.getStatus() != Todo.TodoStatus.COMPLETED) {
-            existingTodo.setCompletedAt(null);
-        }
-
-        return todoMapper.toDto(todoRepository.save(existingTodo));
+        TodoDto updated = todoMapper.toDto(todoRepository.save(existingTodo));
+        eventPublisher.publishEvent(TodoChangedEvent.updated(before, updated));
+        return updated;
     }
 
     /**
@@ -108,25 +220,113 @@ public class TodoService {
      * Regular users can only delete their own todos.
      */
     @Transactional
-    public void deleteTodo(Long id, String currentUsername) {
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
+    public void deleteTodo(Long id, UserPrincipal principal) {
+        Todo todo = findModifiableTodo(id, principal, "You can only delete your own todos");
 
-        User currentUser = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
+        // Soft delete: the row stays as a tombstone for delta sync (see TodoSyncService)
+        todo.setDeleted(true);
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(todoMapper.toDto(todo)));
+    }
 
-        // Check ownership unless user is admin
-        if (!isAdmin(currentUser) && !todo.getAssignedTo().getUsername().equals(currentUsername)) {
-            throw new AccessDeniedException("You can only delete your own todos");
+    /**
+     * Apply one action to many todos.
+     * All affected todos are loaded with a single query,
+     * and the changes (including soft deletes) are written as JDBC batches when the transaction commits.
+     * Admins can modify any todo; regular users only their own.
+     *
+     * @return One result per distinct requested id, in request order
+     */
+    @Transactional
+    public List<BulkTodoResultDto> applyBulkAction(BulkTodoRequest request, UserPrincipal principal) {
+        boolean admin = principal.isAdmin();
+
+        User newAssignee = null;
+        switch (request.getAction()) {
+            case UPDATE_STATUS -> {
+                if (request.getStatus() == null) {
+                    throw new BadRequestException("Status is required for UPDATE_STATUS");
+                }
+            }
+            case REASSIGN -> {
+                if (request.getAssignedToId() == null) {
+                    throw new BadRequestException("Assigned user is required for REASSIGN");
+                }
+                // Non-admin users can only assign todos to themselves
+                if (!admin && !principal.getId().equals(request.getAssignedToId())) {
+                    throw new AccessDeniedException("You can only assign todos to yourself");
+                }
+                newAssignee = userRepository.findById(request.getAssignedToId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found"));
+            }
+            case DELETE -> {
+                // No parameters
+            }
         }
 
-        todoRepository.deleteById(id);
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(request.getIds());
+        Map<Long, Todo> todosById = todoRepository.findAllWithAssigneeByIdIn(ids).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        List<BulkTodoResultDto> results = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+            Todo todo = todosById.get(id);
+            if (todo == null) {
+                results.add(BulkTodoResultDto.failed(id, "Todo not found"));
+                continue;
+            }
+            if (!admin && !todo.getAssignedTo().getId().equals(principal.getId())) {
+                results.add(BulkTodoResultDto.failed(id, "You can only modify your own todos"));
+                continue;
+            }
+
+            TodoDto before = todoMapper.toDto(todo);
+            switch (request.getAction()) {
+                case UPDATE_STATUS -> applyStatus(todo, request.getStatus());
+                case REASSIGN -> reassign(todo, newAssignee);
+                case DELETE -> todo.setDeleted(true);
+            }
+            eventPublisher.publishEvent(request.getAction() == BulkTodoRequest.Action.DELETE
+                    ? TodoChangedEvent.deleted(before)
+                    : TodoChangedEvent.updated(before, todoMapper.toDto(todo)));
+            results.add(BulkTodoResultDto.succeeded(id));
+        }
+
+        return results;
     }
 
     /**
-     * Check if a user has admin role.
+     * Load a todo the caller may modify, with the ownership check folded into the query.
+     * Only a failed lookup costs a second statement, to tell a missing todo from a foreign one.
      */
-    private boolean isAdmin(User user) {
-        return user.getRoles().contains(RoleConstants.ADMIN);
+    private Todo findModifiableTodo(Long id, UserPrincipal principal, String deniedMessage) {
+        return todoRepository.findByIdForUser(id, principal.getId(), principal.isAdmin())
+                .orElseThrow(() -> todoRepository.existsById(id)
+                        ? new AccessDeniedException(deniedMessage)
+                        : new ResourceNotFoundException("Todo not found"));
+    }
+
+    /**
+     * Set the status of a todo, keeping its completion timestamp consistent.
+     */
+    private void applyStatus(Todo todo, Todo.TodoStatus status) {
+        todo.setStatus(status);
+
+        if (status == Todo.TodoStatus.COMPLETED && todo.getCompletedAt() == null) {
+            todo.setCompletedAt(LocalDateTime.now());
+        } else if (status != Todo.TodoStatus.COMPLETED) {
+            todo.setCompletedAt(null);
+        }
+    }
+
+    /**
+     * Assign a todo to another user, remembering the previous assignee for delta sync.
+     */
+    private void reassign(Todo todo, User assignee) {
+        if (!todo.getAssignedTo().getId().equals(assignee.getId())) {
+            todo.setPreviousAssignedToId(todo.getAssignedTo().getId());
+            todo.setAssignedTo(assignee);
+            todo.setHouseholdId(assignee.getHouseholdId());
+        }
     }
 }
\ No newline at end of file
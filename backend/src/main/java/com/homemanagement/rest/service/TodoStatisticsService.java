@@ -0,0 +1,272 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.config.ReadRouting;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.TodoStatisticsDto;
+import com.homemanagement.rest.repository.TodoDueDateCount;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.TodoStatisticsRow;
+import com.homemanagement.rest.repository.UserRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Todo statistics served from in-memory counters per assignee.
+ * Counters are adjusted from the before/after state of every committed change, so
+ * reading them never touches the todos table. A periodic reconciliation rebuilds
+ * them from aggregate queries, which also initialises them at startup.
+ */
+@Service
+public class TodoStatisticsService implements DisposableBean {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    /** Reads all aggregates from one snapshot of the primary. */
+    private final TransactionTemplate snapshotTransaction;
+    /** Runs the reconciliations that follow imports outside the importing request, so they see all households. */
+    private final ExecutorService reconciler = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("todo-statistics").daemon().factory());
+
+    private volatile Map<String, Counters> countersByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Changes committed while a reconciliation is running, replayed onto its result; null otherwise.
+     */
+    private List<TodoChangedEvent> changesDuringReconciliation;
+
+    /** Held for a whole reconciliation, so scheduled and import-triggered runs do not overlap. */
+    private final Object reconciliation = new Object();
+
+    public TodoStatisticsService(TodoRepository todoRepository,
+                                 UserRepository userRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Statistics of the todos assigned to a user.
+     */
+    public TodoStatisticsDto getStatisticsByUsername(String username) {
+        Counters counters = countersByUser.get(username);
+        return (counters != null ? counters : new Counters()).toDto(LocalDate.now());
+    }
+
+    /**
+     * Statistics of all todos of the current household (admin only, enforced at controller level).
+     * Counters are kept per user, so this adds up those of the household's users (a cached query).
+     */
+    public TodoStatisticsDto getStatistics() {
+        Map<String, Counters> counters = countersByUser;
+        Counters total = new Counters();
+        for (User user : userRepository.findAll()) {
+            Counters userCounters = counters.get(user.getUsername());
+            if (userCounters != null) {
+                total.add(userCounters);
+            }
+        }
+        return total.toDto(LocalDate.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTodoChanged(TodoChangedEvent event) {
+        if (changesDuringReconciliation != null) {
+            changesDuringReconciliation.add(event);
+        }
+        apply(countersByUser, event);
+    }
+
+    /**
+     * Imported todos come without change events, so the counters are rebuilt instead.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosImported(TodosImportedEvent event) {
+        reconciler.execute(this::reconcile);
+    }
+
+    /**
+     * Rebuild all counters from the database, correcting any drift.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${todos.statistics.reconcile-interval}")
+    public void reconcile() {
+        synchronized (reconciliation) {
+            synchronized (this) {
+                changesDuringReconciliation = new ArrayList<>();
+            }
+            try {
+                // Replicas may lag behind the change events, so the snapshot is taken on the primary
+                ReadRouting.onPrimary(() -> snapshotTransaction.execute(status -> {
+                    if (status.isNewTransaction()) {
+                        useRepeatableRead();
+                    }
+                    Map<String, Counters> rebuilt = new ConcurrentHashMap<>();
+                    for (TodoStatisticsRow row : todoRepository.summarizeByAssignee()) {
+                        counters(rebuilt, row.getUsername()).add(row);
+                    }
+                    for (TodoDueDateCount row : todoRepository.countOpenByAssigneeAndDueDate()) {
+                        counters(rebuilt, row.getUsername()).addOpen(row.getDueDate(), row.getCount());
+                    }
+                    synchronized (this) {
+                        replayChanges(rebuilt);
+                        countersByUser = rebuilt;
+                    }
+                    return null;
+                }));
+            } finally {
+                synchronized (this) {
+                    changesDuringReconciliation = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Bring the todos changed since the reconciliation started up to date. A change that committed just
+     * before the snapshot is already counted, so rather than replaying the events, the state the snapshot
+     * saw of each such todo is swapped for its latest state. Must run in the snapshot's transaction.
+     */
+    private void replayChanges(Map<String, Counters> rebuilt) {
+        Map<Long, TodoDto> latest = new HashMap<>();
+        changesDuringReconciliation.forEach(event -> latest.put(event.todo().getId(), event.after()));
+        if (latest.isEmpty()) {
+            return;
+        }
+        for (TodoDto seen : todoRepository.findDtosByIdIn(latest.keySet())) {
+            counters(rebuilt, seen.getAssignedToUsername()).add(seen, -1);
+        }
+        for (TodoDto todo : latest.values()) {
+            if (todo != null) {
+                counters(rebuilt, todo.getAssignedToUsername()).add(todo, 1);
+            }
+        }
+    }
+
+    /**
+     * Make the current transaction repeatable-read; must come before its first statement. Set on the connection
+     * because the transaction manager cannot when Hibernate releases connections after each transaction, as it
+     * does with a replica (see ReplicaDataSourceConfig). The pool restores the level when the connection is returned.
+     */
+    private void useRepeatableRead() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            return null;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        reconciler.shutdownNow();
+    }
+
+    private static void apply(Map<String, Counters> target, TodoChangedEvent event) {
+        if (event.before() != null) {
+            counters(target, event.before().getAssignedToUsername()).add(event.before(), -1);
+        }
+        if (event.after() != null) {
+            counters(target, event.after().getAssignedToUsername()).add(event.after(), 1);
+        }
+    }
+
+    private static Counters counters(Map<String, Counters> target, String username) {
+        return target.computeIfAbsent(username, key -> new Counters());
+    }
+
+    /**
+     * Running totals for one assignee.
+     */
+    static final class Counters {
+        private long total;
+        private final EnumMap<Todo.TodoStatus, Long> byStatus = new EnumMap<>(Todo.TodoStatus.class);
+        private final EnumMap<Todo.TodoCategory, Long> byCategory = new EnumMap<>(Todo.TodoCategory.class);
+        /** Open todos by due date, so the overdue count follows the calendar without recomputation. */
+        private final TreeMap<LocalDate, Long> openByDueDate = new TreeMap<>();
+        private long completedWithDuration;
+        private long completionSeconds;
+
+        synchronized void add(TodoDto todo, int sign) {
+            total += sign;
+            if (todo.getStatus() != null) {
+                byStatus.merge(todo.getStatus(), (long) sign, Long::sum);
+            }
+            if (todo.getCategory() != null) {
+                byCategory.merge(todo.getCategory(), (long) sign, Long::sum);
+            }
+            if (todo.getStatus() == Todo.TodoStatus.COMPLETED) {
+                if (todo.getCreatedAt() != null && todo.getCompletedAt() != null) {
+                    completedWithDuration += sign;
+                    completionSeconds += sign * Duration.between(todo.getCreatedAt(), todo.getCompletedAt()).toSeconds();
+                }
+            } else if (todo.getDueDate() != null) {
+                addOpen(todo.getDueDate(), sign);
+            }
+        }
+
+        synchronized void add(TodoStatisticsRow row) {
+            long count = row.getCount();
+            total += count;
+            if (row.getStatus() != null) {
+                byStatus.merge(row.getStatus(), count, Long::sum);
+            }
+            if (row.getCategory() != null) {
+                byCategory.merge(row.getCategory(), count, Long::sum);
+            }
+            if (row.getStatus() == Todo.TodoStatus.COMPLETED && row.getCompletionSeconds() != null) {
+                completedWithDuration += row.getCompletedCount();
+                completionSeconds += row.getCompletionSeconds().longValue();
+            }
+        }
+
+        synchronized void addOpen(LocalDate dueDate, long count) {
+            openByDueDate.merge(dueDate, count, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        synchronized void add(Counters other) {
+            synchronized (other) {
+                total += other.total;
+                other.byStatus.forEach((status, count) -> byStatus.merge(status, count, Long::sum));
+                other.byCategory.forEach((category, count) -> byCategory.merge(category, count, Long::sum));
+                other.openByDueDate.forEach(this::addOpen);
+                completedWithDuration += other.completedWithDuration;
+                completionSeconds += other.completionSeconds;
+            }
+        }
+
+        synchronized TodoStatisticsDto toDto(LocalDate today) {
+            long completed = byStatus.getOrDefault(Todo.TodoStatus.COMPLETED, 0L);
+            long overdue = openByDueDate.headMap(today).values().stream().mapToLong(Long::longValue).sum();
+            return new TodoStatisticsDto(
+                    total,
+                    new EnumMap<>(byStatus),
+                    new EnumMap<>(byCategory),
+                    overdue,
+                    total > 0 ? (double) completed / total : 0,
+                    completedWithDuration > 0 ? (double) completionSeconds / completedWithDuration : null);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDeltaDto;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.exception.ResourceNotFoundException;
+import com.homemanagement.mapper.TodoMapper;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Delta synchronisation of todo lists.
+ * Versions come from {@link TodoVersionTracker}; changed rows are found by their
+ * {@code lastModified} time and deletions by the soft-delete tombstones.
+ */
+@Service
+public class TodoSyncService {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoMapper todoMapper;
+    private final TodoVersionTracker versionTracker;
+    private final Duration tombstoneRetention;
+    private final Duration overlap;
+
+    public TodoSyncService(TodoRepository todoRepository,
+                           UserRepository userRepository,
+                           TodoMapper todoMapper,
+                           TodoVersionTracker versionTracker,
+                           @Value("${todos.sync.tombstone-retention}") Duration tombstoneRetention,
+                           @Value("${todos.sync.overlap}") Duration overlap) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoMapper = todoMapper;
+        this.versionTracker = versionTracker;
+        this.tombstoneRetention = tombstoneRetention;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Changes to a user's todos since a version previously returned to them.
+     * Todos reassigned to someone else are reported as deleted.
+     */
+    @Transactional(readOnly = true)
+    public TodoDeltaDto getChangesByUsername(String username, long since) {
+        long version = versionTracker.versionOf(username);
+        if (isBeyondRetention(since)) {
+            return full(version, todoRepository.findDtosByAssigneeUsername(username));
+        }
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        List<Todo> rows = todoRepository.findChangedSinceIncludingDeleted(user.getId(), changedAfter(since));
+        return delta(version, rows, todo -> !todo.isDeleted() && todo.getAssignedTo().getId().equals(user.getId()));
+    }
+
+    /**
+     * Changes to all todos of a household since a version previously returned
+     * (admin only, enforced at controller level).
+     */
+    @Transactional(readOnly = true)
+    public TodoDeltaDto getAllChanges(Long householdId, long since) {
+        long version = versionTracker.globalVersion();
+        if (isBeyondRetention(since)) {
+            return full(version, todoRepository.findAllDtos());
+        }
+
+        List<Todo> rows = todoRepository.findChangedInHouseholdSinceIncludingDeleted(householdId, changedAfter(since));
+        return delta(version, rows, todo -> !todo.isDeleted());
+    }
+
+    /**
+     * Remove tombstones older than the retention period; clients that last synced
+     * before that get a full list instead of a delta.
+     */
+    @Scheduled(fixedDelayString = "${todos.sync.purge-interval}")
+    @Transactional
+    public void purgeDeletedTodos() {
+        todoRepository.purgeDeletedBefore(Instant.now().minus(tombstoneRetention));
+    }
+
+    private boolean isBeyondRetention(long since) {
+        return Instant.ofEpochMilli(since).isBefore(Instant.now().minus(tombstoneRetention));
+    }
+
+    /**
+     * Rows are stamped when flushed but versions move when the transaction commits,
+     * so look back a little to include writes that committed just after {@code since} was issued.
+     * Clients apply changes by id, so receiving a todo twice is harmless.
+     */
+    private Instant changedAfter(long since) {
+        return Instant.ofEpochMilli(since).minus(overlap);
+    }
+
+    private TodoDeltaDto full(long version, List<TodoDto> todos) {
+        return new TodoDeltaDto(version, true, todos, List.of());
+    }
+
+    private TodoDeltaDto delta(long version, List<Todo> rows, Predicate<Todo> visible) {
+        List<TodoDto> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (Todo todo : rows) {
+            if (visible.test(todo)) {
+                changed.add(todoMapper.toDto(todo));
+            } else {
+                deleted.add(todo.getId());
+            }
+        }
+        return new TodoDeltaDto(version, false, changed, deleted);
+    }
+}
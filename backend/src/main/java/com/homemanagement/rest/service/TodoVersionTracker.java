@@ -0,0 +1,64 @@
+package com.homemanagement.rest.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps an in-memory version of every user's todo list and of the full list,
+ * so unchanged lists can be answered with 304 Not Modified without a database query.
+ * <p>
+ * Versions are epoch milliseconds that only move forward. They start at the time
+ * this instance started (later than any change committed before), and every committed
+ * change moves the affected lists to the current time. This also makes a version
+ * usable as the {@code since} value of a delta sync request.
+ */
+@Service
+public class TodoVersionTracker {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, Long> userVersions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong(startedAt);
+
+    /**
+     * Current version of the todos visible to a user.
+     */
+    public long versionOf(String username) {
+        return userVersions.getOrDefault(username, startedAt);
+    }
+
+    /**
+     * Current version of the list of all todos.
+     */
+    public long globalVersion() {
+        return globalVersion.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        long now = System.currentTimeMillis();
+        bump(event.todo().getAssignedToUsername(), now);
+        if (event.previousAssignee() != null && !event.previousAssignee().equals(event.todo().getAssignedToUsername())) {
+            bump(event.previousAssignee(), now);
+        }
+        globalVersion.accumulateAndGet(now, TodoVersionTracker::advance);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosImported(TodosImportedEvent event) {
+        long now = System.currentTimeMillis();
+        event.usernames().forEach(username -> bump(username, now));
+        globalVersion.accumulateAndGet(now, TodoVersionTracker::advance);
+    }
+
+    private void bump(String username, long now) {
+        userVersions.merge(username, advance(startedAt, now), TodoVersionTracker::advance);
+    }
+
+    private static long advance(long current, long now) {
+        return Math.max(current + 1, now);
+    }
+}
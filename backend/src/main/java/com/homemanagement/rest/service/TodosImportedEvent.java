@@ -0,0 +1,12 @@
+package com.homemanagement.rest.service;
+
+import java.util.Set;
+
+/**
+ * Published by {@link ImportService} and {@link RecurrenceScheduler} after todos were bulk-inserted
+ * without individual change events.
+ *
+ * @param usernames Assignees of the inserted todos
+ */
+public record TodosImportedEvent(Set<String> usernames) {
+}
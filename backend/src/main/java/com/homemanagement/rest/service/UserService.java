@@ -1,22 +1,30 @@
 package com.homemanagement.rest.service;
 
+import com.homemanagement.domain.Todo;
 import com.homemanagement.domain.User;
 import com.homemanagement.dto.CreateUserRequest;
 import com.homemanagement.dto.UpdateUserRequest;
 import com.homemanagement.dto.UserDetailDto;
 import com.homemanagement.dto.UserDto;
+import com.homemanagement.exception.BadRequestException;
 import com.homemanagement.exception.ResourceNotFoundException;
 import com.homemanagement.mapper.UserMapper;
+import com.homemanagement.rest.repository.RecurrenceRuleRepository;
 import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.TodoStatusCount;
 import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.AuthenticationCache;
+import com.homemanagement.security.HouseholdContext;
 import com.homemanagement.security.RoleConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,12 +37,15 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final RecurrenceRuleRepository recurrenceRuleRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
 
     /**
      * Get all users as basic DTOs.
      */
+    @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(userMapper::toDto)
@@ -48,6 +59,7 @@ public class UserService {
      * @param username The username of the requesting user
      * @return List of assignable users
      */
+    @Transactional(readOnly = true)
     public List<UserDto> getAssignableUsers(String username) {
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
@@ -66,20 +78,22 @@ public class UserService {
 
     /**
      * Get all users with detailed information including todo counts.
+     * Counts for all users are fetched with a single grouped query.
      */
+    @Transactional(readOnly = true)
     public List<UserDetailDto> getAllUsersDetailed() {
+        Map<Long, List<TodoStatusCount>> countsByUser = todoRepository.countByAssigneeAndStatus().stream()
+                .collect(Collectors.groupingBy(TodoStatusCount::getUserId));
+
         return userRepository.findAll().stream()
-                .map(user -> {
-                    UserDetailDto dto = userMapper.toDetailDto(user);
-                    dto.setTodoCount(todoRepository.findByAssignedToUsername(user.getUsername()).size());
-                    return dto;
-                })
+                .map(user -> toDetailDto(user, countsByUser.getOrDefault(user.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
     /**
      * Get a single user by ID.
      */
+    @Transactional(readOnly = true)
     public UserDto getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
@@ -89,27 +103,47 @@ public class UserService {
     /**
      * Get detailed user information by ID.
      */
+    @Transactional(readOnly = true)
     public UserDetailDto getUserDetailById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
+        return toDetailDto(user, todoRepository.countByAssigneeAndStatus(id));
+    }
+
+    /**
+     * Map a user to its detail DTO, merging in the grouped todo counts.
+     */
+    private UserDetailDto toDetailDto(User user, List<TodoStatusCount> counts) {
         UserDetailDto dto = userMapper.toDetailDto(user);
-        dto.setTodoCount(todoRepository.findByAssignedToUsername(user.getUsername()).size());
+        Map<Todo.TodoStatus, Long> byStatus = new EnumMap<>(Todo.TodoStatus.class);
+        long total = 0;
+
+        for (TodoStatusCount count : counts) {
+            total += count.getCount();
+            if (count.getStatus() != null) {
+                byStatus.put(count.getStatus(), count.getCount());
+            }
+        }
+
+        dto.setTodoCount((int) total);
+        dto.setTodoCountsByStatus(byStatus);
         return dto;
     }
 
     /**
-     * Create a new user.
+     * Create a new user in the household of the authenticated user.
      */
     @Transactional
     public UserDto createUser(CreateUserRequest request) {
         // Check if username already exists
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("Username already exists: " + request.getUsername());
+            throw new BadRequestException("Username already exists: " + request.getUsername());
         }
 
         User user = userMapper.toEntity(request);
         user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setHouseholdId(HouseholdContext.currentHouseholdIdOrDefault());
 
         // Set roles - default to USER if not specified
         if (request.getRoles() == null || request.getRoles().isEmpty()) {
@@ -136,25 +170,32 @@ public class UserService {
 
         if (request.getPassword() != null && !request.getPassword().isBlank()) {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
+            revokeTokens(user);
         }
 
-        if (request.getRoles() != null) {
+        if (request.getRoles() != null && !request.getRoles().equals(user.getRoles())) {
             user.setRoles(new HashSet<>(request.getRoles()));
+            revokeTokens(user);
         }
 
         User updatedUser = userRepository.save(user);
+        authenticationCache.evict(updatedUser.getUsername());
         return userMapper.toDto(updatedUser);
     }
 
     /**
      * Delete a user.
+     * The tombstones of the user's deleted todos are purged with it, so delta sync stops reporting them,
+     * and so are the user's recurring todos.
      */
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        todoRepository.purgeDeletedByAssignee(user.getId());
+        recurrenceRuleRepository.deleteByAssigneeId(user.getId());
+        userRepository.delete(user);
+        authenticationCache.evict(user.getUsername());
     }
 
     /**
@@ -166,12 +207,23 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
         user.setPassword(passwordEncoder.encode(newPassword));
+        revokeTokens(user);
         userRepository.save(user);
+        authenticationCache.evict(user.getUsername());
+    }
+
+    /**
+     * Invalidate all tokens issued to a user so stale roles or credentials cannot be used.
+     * Callers must evict the user from the {@link AuthenticationCache} once saved.
+     */
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
     }
 
     /**
      * Check if a username is available.
      */
+    @Transactional(readOnly = true)
     public boolean isUsernameAvailable(String username) {
         return userRepository.findByUsername(username).isEmpty();
     }
@@ -0,0 +1,53 @@
+package com.homemanagement.security;
+
+import com.homemanagement.rest.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Cache of per-user authentication data used on every authenticated request.
+ * Entries expire after a configurable TTL; writes that change a user's roles,
+ * credentials or token version must call {@link #evict(String)} so they take effect immediately.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticationCache {
+
+    public static final String USER_DETAILS = "userDetails";
+    public static final String TOKEN_VERSIONS = "tokenVersions";
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final UserRepository userRepository;
+
+    /**
+     * Get the user details used to build the security context for a request.
+     * The cached copy carries no password hash, as request authentication never needs it.
+     * Login keeps going through {@link UserDetailsServiceImpl} directly.
+     */
+    @Cacheable(cacheNames = USER_DETAILS)
+    public UserPrincipal getUserDetails(String username) {
+        return ((UserPrincipal) userDetailsService.loadUserByUsername(username)).withoutPassword();
+    }
+
+    /**
+     * Get the current token version of a user, or null if the user does not exist.
+     * Tokens issued with an older version are revoked. Read from the primary database rather than a
+     * replica, which could still hold, and get cached, the version just revoked.
+     */
+    @Cacheable(cacheNames = TOKEN_VERSIONS, unless = "#result == null")
+    @Transactional
+    public Long getTokenVersion(String username) {
+        return userRepository.findTokenVersionByUsername(username).orElse(null);
+    }
+
+    /**
+     * Drop all cached authentication data of a user.
+     */
+    @CacheEvict(cacheNames = {USER_DETAILS, TOKEN_VERSIONS})
+    public void evict(String username) {
+        // Eviction is performed by the cache interceptor
+    }
+}
@@ -1,6 +1,8 @@
 package com.homemanagement.security;
 
+import com.homemanagement.domain.Household;
 import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.HouseholdRepository;
 import com.homemanagement.rest.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,21 +14,36 @@ import java.util.Set;
 
 /**
  * Initializes the database with required data on application startup.
- * Creates the initial admin user if no admin exists.
+ * Creates the default household if there is no household, and the initial admin user if no admin exists.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DatabaseInitializer implements CommandLineRunner {
 
+    private final HouseholdRepository householdRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Override
     public void run(String... args) throws Exception {
+        createDefaultHouseholdIfNotExists();
         createAdminUserIfNotExists();
     }
 
+    /**
+     * The first household of an empty table gets {@link Household#DEFAULT_ID}, the household
+     * that existing users and todos are assigned to when the household column is added.
+     */
+    private void createDefaultHouseholdIfNotExists() {
+        if (householdRepository.count() == 0) {
+            Household household = new Household();
+            household.setName("Home");
+            household = householdRepository.save(household);
+            log.info("Created default household with id {}", household.getId());
+        }
+    }
+
     private void createAdminUserIfNotExists() {
         // Check if any user with ROLE_ADMIN exists
         boolean adminExists = userRepository.findAll().stream()
@@ -0,0 +1,42 @@
+package com.homemanagement.security;
+
+import com.homemanagement.domain.Household;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * The household of the current request, taken from the authenticated {@link UserPrincipal}.
+ * Requests of one household never see the data of another; code running outside a request,
+ * such as scheduled jobs, has no household and sees all of them.
+ */
+public final class HouseholdContext {
+
+    private HouseholdContext() {
+    }
+
+    /**
+     * Household of the authenticated user, or null if there is none.
+     */
+    public static Long currentHouseholdId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                ? principal.getHouseholdId()
+                : null;
+    }
+
+    /**
+     * Household of the authenticated user, or the default household if there is none.
+     */
+    public static long currentHouseholdIdOrDefault() {
+        Long householdId = currentHouseholdId();
+        return householdId != null ? householdId : Household.DEFAULT_ID;
+    }
+
+    /**
+     * Whether data of the given household is visible to the current request.
+     */
+    public static boolean isVisible(Long householdId) {
+        Long current = currentHouseholdId();
+        return current == null || current.equals(householdId);
+    }
+}
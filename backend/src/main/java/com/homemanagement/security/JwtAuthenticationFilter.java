@@ -1,25 +1,52 @@
 package com.homemanagement.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final boolean stateless;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider tokenProvider,
+            AuthenticationCache authenticationCache,
+            @Value("${jwt.stateless}") boolean stateless,
+            MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.authenticationCache = authenticationCache;
+        this.stateless = stateless;
+        this.validTokenTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = verificationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.verification")
+                .description("Parsing and signature verification of bearer tokens (cache hits included)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -33,10 +60,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = extractToken(request);
+        Claims claims = StringUtils.hasText(token) ? verify(token) : null;
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            String username = tokenProvider.getUsernameFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (claims != null && isCurrentTokenVersion(claims)) {
+            UserPrincipal userDetails = loadUserDetails(claims);
 
             UsernamePasswordAuthenticationToken authentication = 
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -48,6 +75,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Verify the token once and return its claims, or null if it is not valid.
+     */
+    private Claims verify(String token) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = tokenProvider.parseAndVerify(token);
+            validTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+    }
+
+    /**
+     * Reject tokens of deleted users and tokens issued before the user's version was bumped.
+     */
+    private boolean isCurrentTokenVersion(Claims claims) {
+        Long currentVersion = authenticationCache.getTokenVersion(claims.getSubject());
+        return currentVersion != null && currentVersion == tokenProvider.getTokenVersion(claims);
+    }
+
+    /**
+     * In stateless mode the principal is rebuilt from the signed claims without touching the database.
+     * Tokens issued without embedded user id, household or roles fall back to the cached user lookup.
+     */
+    private UserPrincipal loadUserDetails(Claims claims) {
+        if (stateless) {
+            Long userId = tokenProvider.getUserId(claims);
+            Long householdId = tokenProvider.getHouseholdId(claims);
+            Collection<GrantedAuthority> authorities = tokenProvider.getAuthorities(claims);
+            if (userId != null && householdId != null && authorities != null) {
+                return new UserPrincipal(userId, householdId, claims.getSubject(), "", authorities);
+            }
+        }
+        return authenticationCache.getUserDetails(claims.getSubject());
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -55,4 +121,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
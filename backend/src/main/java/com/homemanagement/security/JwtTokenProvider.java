@@ -1,58 +1,173 @@
 package com.homemanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
+
+    static final String ROLES_CLAIM = "roles";
+    static final String VERSION_CLAIM = "ver";
+    static final String USER_ID_CLAIM = "uid";
+    static final String HOUSEHOLD_ID_CLAIM = "hid";
     
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long jwtExpiration) {
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.verified-token-cache-size}") long verifiedTokenCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        // Parsers are immutable and thread-safe, so one instance serves all requests
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verifiedTokenCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedTokenCacheSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
     }
 
-    public String generateToken(Authentication authentication) {
+    /**
+     * Generate a signed token carrying the user's id, household, roles and token version as claims.
+     */
+    public String generateToken(Authentication authentication, long tokenVersion) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+
+        JwtBuilder builder = Jwts.builder();
+        if (userDetails instanceof UserPrincipal principal) {
+            builder.claim(USER_ID_CLAIM, principal.getId());
+            builder.claim(HOUSEHOLD_ID_CLAIM, principal.getHouseholdId());
+        }
 
-        return Jwts.builder()
+        return builder
                 .subject(userDetails.getUsername())  // Changed from setSubject
+                .claim(ROLES_CLAIM, roles)
+                .claim(VERSION_CLAIM, tokenVersion)
                 .issuedAt(now)                        // Changed from setIssuedAt
                 .expiration(expiryDate)               // Changed from setExpiration
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * Verify the signature and expiry of a token and return its claims.
+     * Verified tokens are remembered until they expire, so repeated requests
+     * with the same token skip parsing and signature verification.
+     * A cache size of 0 disables this.
+     *
+     * @throws JwtException if the token is malformed, expired or not signed with our key
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public Claims parseAndVerify(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        Claims claims = verifiedTokens.getIfPresent(token);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
+    }
+
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()                 // Changed from parserBuilder
-                .verifyWith(secretKey)                // Changed from setSigningKey
-                .build()
-                .parseSignedClaims(token)             // Changed from parseClaimsJws
-                .getPayload();                        // Changed from getBody
-        return claims.getSubject();
+        return parseAndVerify(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+            parseAndVerify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the authorities embedded in the claims, or null for tokens issued without them.
+     */
+    public Collection<GrantedAuthority> getAuthorities(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return null;
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the user id embedded in the claims, or null for tokens issued without it.
+     */
+    public Long getUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
+    }
+
+    /**
+     * Get the household id embedded in the claims, or null for tokens issued without it.
+     */
+    public Long getHouseholdId(Claims claims) {
+        return claims.get(HOUSEHOLD_ID_CLAIM, Long.class);
+    }
+
+    /**
+     * Get the token version the token was issued with; tokens without one count as version 0.
+     */
+    public long getTokenVersion(Claims claims) {
+        Long version = claims.get(VERSION_CLAIM, Long.class);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Keeps a verified token cached no longer than the token itself is valid.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.homemanagement.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Builds the password encoder from the configured algorithm and cost.
+ * <p>
+ * Hashes are stored with an algorithm prefix ({@code {bcrypt}...}, {@code {pbkdf2}...}) so the
+ * algorithm and cost can change without invalidating existing passwords; hashes from before the
+ * prefix was introduced are plain BCrypt. Any hash not produced with the current settings reports
+ * {@link PasswordEncoder#upgradeEncoding} and is re-encoded on the next successful login.
+ */
+@Slf4j
+public final class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int CALIBRATION_BCRYPT_STRENGTH = 8;
+    private static final int MIN_PBKDF2_ITERATIONS = 10_000;
+    private static final int CALIBRATION_PBKDF2_ITERATIONS = 20_000;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * Encoder hashing new passwords with the given algorithm and matching all supported ones.
+     *
+     * @param algorithm        {@link #BCRYPT} or {@link #PBKDF2}
+     * @param bcryptStrength   BCrypt cost factor (log2 rounds)
+     * @param pbkdf2Iterations PBKDF2-HMAC-SHA256 iterations
+     */
+    public static PasswordEncoder create(String algorithm, int bcryptStrength, int pbkdf2Iterations) {
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                BCRYPT, new BCryptPasswordEncoder(bcryptStrength),
+                PBKDF2, new IterationsPbkdf2PasswordEncoder(pbkdf2Iterations)));
+        // Hashes stored before the algorithm prefix was introduced
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));
+        return encoder;
+    }
+
+    /**
+     * The highest BCrypt strength whose hash takes no longer than the target on this machine.
+     */
+    public static int calibrateBCryptStrength(Duration target) {
+        long nanos = measure(new BCryptPasswordEncoder(CALIBRATION_BCRYPT_STRENGTH));
+        // Every strength step doubles the work
+        int steps = (int) Math.floor(Math.log((double) target.toNanos() / nanos) / Math.log(2));
+        int strength = Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, CALIBRATION_BCRYPT_STRENGTH + steps));
+        log.info("Calibrated BCrypt strength {} for a target hash time of {} ms (strength {} took {} ms)",
+                strength, target.toMillis(), CALIBRATION_BCRYPT_STRENGTH, nanos / 1_000_000.0);
+        return strength;
+    }
+
+    /**
+     * The PBKDF2 iteration count whose hash takes about the target time on this machine.
+     */
+    public static int calibratePbkdf2Iterations(Duration target) {
+        long nanos = measure(new IterationsPbkdf2PasswordEncoder(CALIBRATION_PBKDF2_ITERATIONS));
+        long scaled = CALIBRATION_PBKDF2_ITERATIONS * target.toNanos() / nanos;
+        int iterations = (int) Math.max(MIN_PBKDF2_ITERATIONS, Math.min(Integer.MAX_VALUE, scaled / 1000 * 1000));
+        log.info("Calibrated {} PBKDF2 iterations for a target hash time of {} ms ({} iterations took {} ms)",
+                iterations, target.toMillis(), CALIBRATION_PBKDF2_ITERATIONS, nanos / 1_000_000.0);
+        return iterations;
+    }
+
+    /**
+     * Fastest of a few hashes after a warm-up, in nanoseconds.
+     */
+    private static long measure(PasswordEncoder encoder) {
+        encoder.encode(CALIBRATION_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Math.max(best, 1);
+    }
+
+    /**
+     * PBKDF2-HMAC-SHA256 storing its iteration count as {@code iterations$hash}, so hashes stay
+     * verifiable when the configured count changes and can be upgraded when it grows.
+     */
+    static final class IterationsPbkdf2PasswordEncoder implements PasswordEncoder {
+
+        private static final int SALT_LENGTH = 16;
+
+        private final int iterations;
+        private final Pbkdf2PasswordEncoder delegate;
+
+        IterationsPbkdf2PasswordEncoder(int iterations) {
+            this.iterations = iterations;
+            this.delegate = pbkdf2(iterations);
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return iterations + "$" + delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            int separator = encodedPassword == null ? -1 : encodedPassword.indexOf('$');
+            if (separator < 0) {
+                return false;
+            }
+            int storedIterations = storedIterations(encodedPassword, separator);
+            if (storedIterations <= 0) {
+                return false;
+            }
+            PasswordEncoder encoder = storedIterations == iterations ? delegate : pbkdf2(storedIterations);
+            return encoder.matches(rawPassword, encodedPassword.substring(separator + 1));
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            int separator = encodedPassword == null ? -1 : encodedPassword.indexOf('$');
+            return separator < 0 || storedIterations(encodedPassword, separator) < iterations;
+        }
+
+        private static int storedIterations(String encodedPassword, int separator) {
+            try {
+                return Integer.parseInt(encodedPassword.substring(0, separator));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+            return new Pbkdf2PasswordEncoder("", SALT_LENGTH, iterations,
+                    Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+        }
+    }
+}
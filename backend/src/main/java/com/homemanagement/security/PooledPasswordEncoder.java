@@ -0,0 +1,160 @@
+package com.homemanagement.security;
+
+import com.homemanagement.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Computes password hashes on a dedicated, bounded pool of threads.
+ * BCrypt is pure CPU work: run on request threads, a burst of logins would occupy
+ * every worker (or carrier thread) and stall the cheap requests behind it. Here at
+ * most {@code threads} hashes run at once and at most {@code queueCapacity} wait;
+ * beyond that callers fail fast with {@link ServiceOverloadedException} (503).
+ * Hash latency, queue wait, queue depth and rejections are published as metrics.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer("encode", registry);
+        this.matchesTimer = hashTimer("matches", registry);
+        this.queueWaitTimer = Timer.builder("security.password.hash.queue.wait")
+                .description("Time password operations wait for a hashing thread")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("security.password.hash.rejected")
+                .description("Password operations rejected because the hashing queue was full")
+                .register(registry);
+        Gauge.builder("security.password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password operations waiting for a hashing thread")
+                .register(registry);
+        Gauge.builder("security.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes being computed")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encode many passwords concurrently, for bulk imports. At most one hash per pool thread is
+     * submitted at a time, so a batch never fills the queue that logins wait in.
+     *
+     * @return The hashes, in the order of the passwords
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>();
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                if (inFlight.size() == executor.getMaximumPoolSize()) {
+                    hashes.add(await(inFlight.removeFirst()));
+                }
+                inFlight.addLast(submit(encodeTimer, () -> delegate.encode(rawPassword)));
+            }
+            while (!inFlight.isEmpty()) {
+                hashes.add(await(inFlight.removeFirst()));
+            }
+            return hashes;
+        } finally {
+            inFlight.forEach(result -> result.cancel(true));
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T hash(Timer timer, Supplier<T> hashing) {
+        return await(submit(timer, hashing));
+    }
+
+    private <T> Future<T> submit(Timer timer, Supplier<T> hashing) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Too many password operations in progress, please retry shortly");
+        }
+    }
+
+    private static <T> T await(Future<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry registry) {
+        return Timer.builder("security.password.hash")
+                .description("Time spent computing password hashes")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "password-hash-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.homemanagement.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,13 +12,13 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import java.time.Duration;
 import java.util.Arrays;
 
 @Configuration
@@ -33,8 +36,12 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches complete already-authorized streams (SSE)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/error").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -47,9 +54,31 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Hashes with the configured algorithm and cost (see {@link PasswordEncoderFactory}) on a bounded pool.
+     * With a target latency, the cost is calibrated to this machine at startup instead.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PooledPasswordEncoder passwordEncoder(@Value("${security.password.max-concurrent-hashes}") int maxConcurrentHashes,
+                                           @Value("${security.password.queue-capacity}") int queueCapacity,
+                                           @Value("${security.password.algorithm}") String algorithm,
+                                           @Value("${security.password.bcrypt-strength}") int bcryptStrength,
+                                           @Value("${security.password.pbkdf2-iterations}") int pbkdf2Iterations,
+                                           @Value("${security.password.target-latency}") Duration targetLatency,
+                                           MeterRegistry meterRegistry) {
+        if (!targetLatency.isZero()) {
+            if (PasswordEncoderFactory.PBKDF2.equals(algorithm)) {
+                pbkdf2Iterations = PasswordEncoderFactory.calibratePbkdf2Iterations(targetLatency);
+            } else {
+                bcryptStrength = PasswordEncoderFactory.calibrateBCryptStrength(targetLatency);
+            }
+        }
+
+        int threads = maxConcurrentHashes > 0
+                ? maxConcurrentHashes
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PooledPasswordEncoder(PasswordEncoderFactory.create(algorithm, bcryptStrength, pbkdf2Iterations),
+                threads, queueCapacity, meterRegistry);
     }
 
     @Bean
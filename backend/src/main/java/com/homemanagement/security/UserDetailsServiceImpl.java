@@ -2,30 +2,44 @@ package com.homemanagement.security;
 
 import com.homemanagement.rest.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service  // THIS WAS MISSING - ADD IT
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    /**
+     * Load a user for login or for the {@link AuthenticationCache}; from the primary database rather than
+     * a replica, so changed passwords and roles apply at once.
+     */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         var user = userRepository.findByUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        return new org.springframework.security.core.userdetails.User(
-            user.getUsername(),
-            user.getPassword(),
-            user.getRoles().stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList())
-        );
+        return UserPrincipal.from(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * Store a password re-encoded with the current algorithm and cost after a successful login
+     * with an outdated hash. The password itself is unchanged, so issued tokens stay valid.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        var user = userRepository.findByUsername(userDetails.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        // Written by dirty checking when the transaction commits
+        user.setPassword(newPassword);
+
+        return UserPrincipal.from(user);
+    }
+}
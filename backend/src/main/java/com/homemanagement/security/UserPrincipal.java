@@ -0,0 +1,60 @@
+package com.homemanagement.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * The authenticated user of a request, as stored in the security context.
+ * Carries the user id, household and admin flag so services can authorize without loading the user.
+ * Obtain it in controllers with {@code @AuthenticationPrincipal UserPrincipal principal}.
+ */
+public class UserPrincipal extends User {
+
+    private final Long id;
+    private final Long householdId;
+    private final boolean admin;
+
+    public UserPrincipal(Long id, Long householdId, String username, String password,
+                         Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+        this.householdId = householdId;
+        this.admin = authorities.stream().anyMatch(authority -> RoleConstants.ADMIN.equals(authority.getAuthority()));
+    }
+
+    /**
+     * Build the principal of a stored user.
+     */
+    public static UserPrincipal from(com.homemanagement.domain.User user) {
+        return new UserPrincipal(user.getId(), user.getHouseholdId(), user.getUsername(), user.getPassword(),
+                user.getRoles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Copy of this principal without the password hash, for caching.
+     */
+    public UserPrincipal withoutPassword() {
+        return new UserPrincipal(id, householdId, getUsername(), "", getAuthorities());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Household whose data this user works with; admins administer only their own household.
+     */
+    public Long getHouseholdId() {
+        return householdId;
+    }
+
+    public boolean isAdmin() {
+        return admin;
+    }
+}
@@ -0,0 +1,51 @@
+-- One-off migration: hash-partitions todos by household_id, so household-scoped queries
+-- (the household filter, see HouseholdFilterInterceptor) only scan their household's partition.
+-- Not run automatically. Run it once with psql while the application is stopped, after it has
+-- started at least once with the household columns:
+--
+--   psql -v ON_ERROR_STOP=1 -1 -f partition-todos-postgresql.sql homemanagement
+--
+-- Hibernate's ddl-auto=update leaves the partitioned table alone afterwards. schema-postgresql.sql
+-- adds the search_words column and its index back on the next startup.
+
+ALTER TABLE todos RENAME TO todos_unpartitioned;
+
+CREATE SEQUENCE todos_id_seq;
+SELECT setval('todos_id_seq', coalesce((SELECT max(id) FROM todos_unpartitioned), 0) + 1, false);
+
+-- Same columns and defaults; the identity column becomes a sequence default, and the primary key
+-- includes the partition key, as Postgres requires of keys on partitioned tables
+CREATE TABLE todos (
+    LIKE todos_unpartitioned INCLUDING DEFAULTS EXCLUDING IDENTITY EXCLUDING GENERATED
+) PARTITION BY HASH (household_id);
+ALTER TABLE todos DROP COLUMN IF EXISTS search_words;
+ALTER TABLE todos ALTER COLUMN id SET DEFAULT nextval('todos_id_seq');
+ALTER TABLE todos ALTER COLUMN id SET NOT NULL;
+ALTER SEQUENCE todos_id_seq OWNED BY todos.id;
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE todos_p%s PARTITION OF todos FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+INSERT INTO todos (id, title, description, status, category, user_id, due_date, created_at, completed_at,
+                   last_modified, deleted, previous_user_id, recurrence_rule_id, household_id)
+SELECT id, title, description, status, category, user_id, due_date, created_at, completed_at,
+       last_modified, deleted, previous_user_id, recurrence_rule_id, household_id
+FROM todos_unpartitioned;
+
+DROP TABLE todos_unpartitioned;
+
+ALTER TABLE todos ADD CONSTRAINT todos_pkey PRIMARY KEY (id, household_id);
+ALTER TABLE todos ADD CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE todos ADD CONSTRAINT uk_todos_recurrence_due UNIQUE (household_id, recurrence_rule_id, due_date);
+
+-- The indexes of domain.Todo, created on every partition
+CREATE INDEX idx_todos_user_status_due ON todos (user_id, status, due_date, id);
+CREATE INDEX idx_todos_user_due ON todos (user_id, due_date, id);
+CREATE INDEX idx_todos_household_due ON todos (household_id, due_date, id);
+CREATE INDEX idx_todos_due ON todos (due_date, id);
+CREATE INDEX idx_todos_user_modified ON todos (user_id, last_modified);
+CREATE INDEX idx_todos_modified ON todos (last_modified);
@@ -0,0 +1,13 @@
+-- Runs after Hibernate has created/updated the tables (spring.jpa.defer-datasource-initialization).
+-- Statements must be idempotent: they are executed on every startup.
+
+-- Full-text search over todo title (weight A) and description (weight B), see PostgresTodoSearch.
+-- Words are indexed unstemmed ('simple'), as search terms are matched as prefixes: the 'english'
+-- stem of a partly typed word ('cleani') is no prefix of the stem of the whole word ('clean').
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS search_words tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_todos_search_words ON todos USING GIN (search_words);
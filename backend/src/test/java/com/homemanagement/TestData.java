@@ -0,0 +1,41 @@
+package com.homemanagement;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.security.RoleConstants;
+
+import java.util.Set;
+
+/**
+ * Unsaved users and todos shared by the tests; callers adjust what they need and save them.
+ */
+public final class TestData {
+
+	private TestData() {
+	}
+
+	/**
+	 * Build a user with the given roles, or {@link RoleConstants#USER} when none are given, and a
+	 * plain placeholder password that tests logging in replace with an encoded one.
+	 */
+	public static User user(String username, String... roles) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword("secret");
+		user.setEmail(username + "@home.local");
+		user.setRoles(roles.length == 0 ? Set.of(RoleConstants.USER) : Set.of(roles));
+		return user;
+	}
+
+	/**
+	 * Build a pending household todo assigned to the given user, in that user's household.
+	 */
+	public static Todo todo(String title, User assignee) {
+		Todo todo = new Todo();
+		todo.setTitle(title);
+		todo.setCategory(Todo.TodoCategory.HOUSEHOLD);
+		todo.setAssignedTo(assignee);
+		todo.setHouseholdId(assignee.getHouseholdId());
+		return todo;
+	}
+}
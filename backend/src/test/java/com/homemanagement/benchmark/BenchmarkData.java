@@ -0,0 +1,68 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.security.RoleConstants;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+	private static final Todo.TodoStatus[] STATUSES = Todo.TodoStatus.values();
+	private static final Todo.TodoCategory[] CATEGORIES = Todo.TodoCategory.values();
+
+	private BenchmarkData() {
+	}
+
+	static User user(Long id, String username) {
+		User user = new User();
+		user.setId(id);
+		user.setUsername(username);
+		user.setPassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma");
+		user.setEmail(username + "@home.local");
+		user.setRoles(Set.of(RoleConstants.USER));
+		user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+		return user;
+	}
+
+	static List<User> users(int count) {
+		List<User> users = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			users.add(user((long) i + 1, "user" + i));
+		}
+		return users;
+	}
+
+	/**
+	 * Build todos spread round-robin over the given assignees, without ids unless {@code withIds} is set.
+	 */
+	static List<Todo> todos(int count, List<User> assignees, boolean withIds) {
+		LocalDate baseDate = LocalDate.of(2025, 1, 1);
+		List<Todo> todos = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Todo todo = new Todo();
+			if (withIds) {
+				todo.setId((long) i + 1);
+			}
+			todo.setTitle("Todo " + i);
+			todo.setDescription("Benchmark todo number " + i + " with a description of realistic length");
+			todo.setStatus(STATUSES[i % STATUSES.length]);
+			todo.setCategory(CATEGORIES[i % CATEGORIES.length]);
+			todo.setAssignedTo(assignees.get(i % assignees.size()));
+			todo.setDueDate(baseDate.plusDays(i % 365));
+			todo.setCreatedAt(LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(i));
+			if (todo.getStatus() == Todo.TodoStatus.COMPLETED) {
+				todo.setCompletedAt(todo.getCreatedAt().plusDays(1));
+			}
+			todos.add(todo);
+		}
+		return todos;
+	}
+}
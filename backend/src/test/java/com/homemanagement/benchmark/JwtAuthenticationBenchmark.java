@@ -0,0 +1,75 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling done by JwtAuthenticationFilter on every request:
+ * the previous validate-then-parse path against the single parseAndVerify call,
+ * with and without the verified-token cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+	static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+	static final long EXPIRATION = TimeUnit.HOURS.toMillis(1);
+
+	private SecretKey secretKey;
+	private JwtTokenProvider cachingProvider;
+	private JwtTokenProvider uncachedProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+		cachingProvider = new JwtTokenProvider(SECRET, EXPIRATION, 10_000);
+		uncachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, 0);
+
+		UserDetails user = User.withUsername("benchmark").password("").authorities("ROLE_USER").build();
+		token = cachingProvider.generateToken(
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()), 0);
+	}
+
+	/**
+	 * The filter path before parseAndVerify: validateToken() followed by getUsernameFromToken(),
+	 * each building a new parser and verifying the signature.
+	 */
+	@Benchmark
+	public String legacyValidateThenParse() {
+		Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+	}
+
+	@Benchmark
+	public Claims parseAndVerifyUncached() {
+		return uncachedProvider.parseAndVerify(token);
+	}
+
+	@Benchmark
+	public Claims parseAndVerifyCached() {
+		return cachingProvider.parseAndVerify(token);
+	}
+}
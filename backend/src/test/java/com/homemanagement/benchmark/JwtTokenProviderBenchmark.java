@@ -0,0 +1,54 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation at login and validation of a token without the verified-token cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+	private JwtTokenProvider tokenProvider;
+	private Authentication authentication;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		tokenProvider = new JwtTokenProvider(
+				JwtAuthenticationBenchmark.SECRET, JwtAuthenticationBenchmark.EXPIRATION, 0);
+		UserDetails user = User.withUsername("benchmark").password("").authorities("ROLE_USER", "ROLE_ADMIN").build();
+		authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+		token = tokenProvider.generateToken(authentication, 0);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return tokenProvider.generateToken(authentication, 0);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return tokenProvider.validateToken(token);
+	}
+}
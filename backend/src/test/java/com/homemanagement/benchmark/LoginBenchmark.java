@@ -0,0 +1,86 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.BackendApplication;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login throughput (user lookup plus password verification, as in AuthController.login)
+ * for each password hashing setting. Run by several callers, so the numbers include
+ * the bounded hashing pool; compare with the per-hash latency the calibration reports.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+
+	static final String USERNAME = "benchmark_login";
+	static final String PASSWORD = "benchmark-password";
+
+	/**
+	 * {@code algorithm:cost}, the cost being the BCrypt strength or the PBKDF2 iteration count.
+	 */
+	@Param({"bcrypt:8", "bcrypt:10", "bcrypt:12", "pbkdf2:100000", "pbkdf2:310000"})
+	private String setting;
+
+	private ConfigurableApplicationContext context;
+	private AuthenticationManager authenticationManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String[] parts = setting.split(":");
+		String costProperty = parts[0].equals("bcrypt") ? "bcrypt-strength" : "pbkdf2-iterations";
+
+		// Command-line arguments take precedence over the test profile's settings
+		context = new SpringApplicationBuilder(BackendApplication.class)
+				.profiles("test")
+				.web(WebApplicationType.NONE)
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"logging.level.root=WARN")
+				.run("--security.password.algorithm=" + parts[0],
+						"--security.password." + costProperty + "=" + parts[1]);
+		authenticationManager = context.getBean(AuthenticationManager.class);
+
+		User user = BenchmarkData.user(null, USERNAME);
+		user.setPassword(context.getBean(PasswordEncoder.class).encode(PASSWORD));
+		context.getBean(UserRepository.class).save(user);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Authentication login() {
+		return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, PASSWORD));
+	}
+}
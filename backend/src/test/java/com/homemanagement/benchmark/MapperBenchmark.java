@@ -0,0 +1,70 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.UserDetailDto;
+import com.homemanagement.mapper.TodoMapper;
+import com.homemanagement.mapper.TodoMapperImpl;
+import com.homemanagement.mapper.UserMapper;
+import com.homemanagement.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mapping of full listings, as done by the todo and user listing endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+	@Param({"1000", "100000"})
+	private int size;
+
+	private final TodoMapper todoMapper = new TodoMapperImpl();
+	private final UserMapper userMapper = new UserMapperImpl();
+	private List<Todo> todos;
+	private List<User> users;
+
+	@Setup
+	public void setUp() {
+		users = BenchmarkData.users(Math.max(size / 100, 1));
+		todos = BenchmarkData.todos(size, users, true);
+		users = BenchmarkData.users(size);
+	}
+
+	@Benchmark
+	public List<TodoDto> todoToDto() {
+		List<TodoDto> dtos = new ArrayList<>(todos.size());
+		for (Todo todo : todos) {
+			dtos.add(todoMapper.toDto(todo));
+		}
+		return dtos;
+	}
+
+	@Benchmark
+	public List<UserDetailDto> userToDetailDto() {
+		List<UserDetailDto> dtos = new ArrayList<>(users.size());
+		for (User user : users) {
+			dtos.add(userMapper.toDetailDto(user));
+		}
+		return dtos;
+	}
+}
@@ -0,0 +1,55 @@
+package com.homemanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.mapper.TodoMapper;
+import com.homemanagement.mapper.TodoMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of a todo listing response body, with the ObjectMapper defaults Spring MVC uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoJsonSerializationBenchmark {
+
+	@Param({"100", "10000"})
+	private int size;
+
+	private ObjectWriter writer;
+	private List<TodoDto> todos;
+
+	@Setup
+	public void setUp() {
+		TodoMapper todoMapper = new TodoMapperImpl();
+		todos = BenchmarkData.todos(size, BenchmarkData.users(10), true).stream()
+				.map(todoMapper::toDto)
+				.collect(Collectors.toList());
+		writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+	}
+
+	@Benchmark
+	public byte[] serializeTodoList() throws JsonProcessingException {
+		return writer.writeValueAsBytes(todos);
+	}
+}
@@ -0,0 +1,122 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.mapper.TodoMapper;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Listing all todos as DTOs: loading entities and mapping them (the assignee, and with a cold cache its
+ * roles, are loaded per distinct user) versus the single joined DTO projection query.
+ * Run with {@code -Djmh.args="-prof gc"} and divide {@code gc.alloc.rate.norm} by the todo count for the
+ * allocation per listed todo; the statements per call are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoListingBenchmark {
+
+	static final int TODOS = 2000;
+
+	@Param({"10", "200"})
+	private int assignees;
+
+	/**
+	 * Whether users are served from the second-level cache or evicted before each call, as after a restart.
+	 */
+	@Param({"warm", "cold"})
+	private String userCache;
+
+	private ConfigurableApplicationContext context;
+	private TodoRepository todoRepository;
+	private TodoMapper todoMapper;
+	private TransactionTemplate readOnlyTransaction;
+	private SessionFactory sessionFactory;
+	private Statistics statistics;
+	private long calls;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = TodoServiceBenchmark.startApplication();
+		todoRepository = context.getBean(TodoRepository.class);
+		todoMapper = context.getBean(TodoMapper.class);
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+		sessionFactory = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+		statistics = sessionFactory.getStatistics();
+
+		List<User> users = new ArrayList<>(assignees);
+		for (int i = 0; i < assignees; i++) {
+			users.add(BenchmarkData.user(null, "listing_user" + i));
+		}
+		users = context.getBean(UserRepository.class).saveAll(users);
+		List<Todo> todos = BenchmarkData.todos(TODOS, users, false);
+		todoRepository.saveAll(todos);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetStatistics() {
+		statistics.clear();
+		calls = 0;
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareCache() {
+		if (userCache.equals("cold")) {
+			sessionFactory.getCache().evictAllRegions();
+		}
+		calls++;
+	}
+
+	@TearDown(Level.Iteration)
+	public void reportStatements() {
+		System.out.printf("%n%d statements per call (%d calls)%n",
+				statistics.getPrepareStatementCount() / Math.max(calls, 1), calls);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TodoDto> entities() {
+		return readOnlyTransaction.execute(status -> todoRepository.findAll().stream()
+				.map(todoMapper::toDto)
+				.collect(Collectors.toList()));
+	}
+
+	@Benchmark
+	public List<TodoDto> projection() {
+		return readOnlyTransaction.execute(status -> todoRepository.findAllDtos());
+	}
+}
@@ -0,0 +1,128 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.BackendApplication;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-text search (tsvector + GIN index) against a sequential ILIKE scan on a
+ * PostgreSQL database holding {@code rows} todos. Needs a running Postgres:
+ * ./mvnw -Pbenchmark test -Dbenchmark=TodoSearchBenchmark
+ *     -Djmh.args="-jvmArgs -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/homemanagement_bench"
+ * The table is seeded once and reused by later runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoSearchBenchmark {
+
+	static final String USERNAME = "search_user_1";
+	static final int USERS = 100;
+
+	@Param({"1000000"})
+	private int rows;
+
+	private ConfigurableApplicationContext context;
+	private TodoService todoService;
+	private JdbcTemplate jdbcTemplate;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BackendApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(
+						"spring.datasource.url=" + System.getProperty("benchmark.datasource.url",
+								"jdbc:postgresql://localhost:5432/homemanagement_bench"),
+						"spring.jpa.show-sql=false",
+						"todos.search.engine=postgres",
+						"logging.level.root=WARN")
+				.run();
+		todoService = context.getBean(TodoService.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		seed();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TodoDto> fullTextSearch() {
+		return todoService.searchTodos("garden fence", 20);
+	}
+
+	@Benchmark
+	public List<TodoDto> fullTextPrefixSearch() {
+		return todoService.searchTodos("gard", 20);
+	}
+
+	@Benchmark
+	public List<TodoDto> fullTextSearchByUsername() {
+		return todoService.searchTodosByUsername(USERNAME, "garden", 20);
+	}
+
+	/**
+	 * What a naive implementation costs: every row has to be read and pattern-matched.
+	 */
+	@Benchmark
+	public Integer likeScan() {
+		return jdbcTemplate.queryForObject(
+				"select count(*) from todos where deleted = false "
+						+ "and (title ilike '%garden%' or description ilike '%garden%')",
+				Integer.class);
+	}
+
+	/**
+	 * Insert users and generated todos in the database itself; only runs when the table is too small.
+	 */
+	private void seed() {
+		Integer existing = jdbcTemplate.queryForObject("select count(*) from todos", Integer.class);
+		if (existing != null && existing >= rows) {
+			return;
+		}
+		jdbcTemplate.update("""
+				insert into users (username, password, email, created_at, token_version)
+				select 'search_user_' || n, 'x', 'search_user_' || n || '@home.local', now(), 0
+				from generate_series(1, ?) n
+				on conflict (username) do nothing
+				""", USERS);
+		jdbcTemplate.update("""
+				insert into todos (title, description, status, category, user_id, deleted, created_at, last_modified)
+				select
+				    (array['Water','Clean','Fix','Paint','Buy','Sort'])[1 + n % 6] || ' the '
+				        || (array['garden','kitchen','fence','garage','window','attic','roof'])[1 + (n / 6) % 7],
+				    'Task number ' || n || ' about the '
+				        || (array['plants','floor','shelves','gutter','boxes','tools'])[1 + (n / 42) % 6],
+				    (array['PENDING','IN_PROGRESS','COMPLETED'])[1 + n % 3],
+				    (array['HOUSEHOLD','MAINTENANCE','GARDEN','CLEANING','OTHER'])[1 + n % 5],
+				    u.id, false, now(), now()
+				from generate_series(1, ?) n
+				join users u on u.username = 'search_user_' || (1 + n % ?)
+				""", rows - (existing == null ? 0 : existing), USERS);
+		jdbcTemplate.execute("analyze todos");
+	}
+}
@@ -0,0 +1,87 @@
+package com.homemanagement.benchmark;
+
+import com.homemanagement.BackendApplication;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.rest.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full TodoService.getTodosByUsername call (repository query, entity loading and mapping)
+ * against the in-memory H2 database of the test profile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoServiceBenchmark {
+
+	static final String USERNAME = "benchmark_user";
+
+	@Param({"100", "5000"})
+	private int todosPerUser;
+
+	private ConfigurableApplicationContext context;
+	private TodoService todoService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = startApplication();
+		todoService = context.getBean(TodoService.class);
+
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		User owner = userRepository.save(BenchmarkData.user(null, USERNAME));
+		User other = userRepository.save(BenchmarkData.user(null, "benchmark_other"));
+
+		// Half of the table belongs to another user so the query has to filter
+		List<Todo> todos = BenchmarkData.todos(todosPerUser * 2, List.of(owner, other), false);
+		context.getBean(TodoRepository.class).saveAll(todos);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TodoDto> getTodosByUsername() {
+		return todoService.getTodosByUsername(USERNAME);
+	}
+
+	/**
+	 * Start the backend without the web server on a fresh in-memory database.
+	 */
+	static ConfigurableApplicationContext startApplication() {
+		return new SpringApplicationBuilder(BackendApplication.class)
+				.profiles("test")
+				.web(WebApplicationType.NONE)
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"spring.jpa.properties.hibernate.jdbc.batch_size=500",
+						"logging.level.root=WARN")
+				.run();
+	}
+}
@@ -0,0 +1,23 @@
+package com.homemanagement.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test if any HTTP request it performs through MockMvc issues more SQL statements than allowed.
+ * On a class, applies to every test method that does not declare its own limit.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+	/**
+	 * Maximum number of SQL statements per request.
+	 */
+	int value();
+}
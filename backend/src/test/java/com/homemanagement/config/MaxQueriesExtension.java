@@ -0,0 +1,45 @@
+package com.homemanagement.config;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records the requests of a test method in {@link RequestStatistics} and checks them against {@link MaxQueries}.
+ * MockMvc runs requests on the test thread, where the statistics of each request nest in the test's own.
+ * Statements the test issues outside of requests (setting up data) are not limited.
+ */
+public class MaxQueriesExtension implements InvocationInterceptor {
+
+	@Override
+	public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		int maxQueries = AnnotationSupport.findAnnotation(extensionContext.getRequiredTestMethod(), MaxQueries.class)
+				.or(() -> AnnotationSupport.findAnnotation(extensionContext.getRequiredTestClass(), MaxQueries.class))
+				.map(MaxQueries::value)
+				.orElseThrow();
+
+		RequestStatistics test = RequestStatistics.start(extensionContext.getDisplayName());
+		try {
+			invocation.proceed();
+		} finally {
+			test.finish();
+		}
+
+		List<RequestStatistics> requests = test.getCompleted();
+		assertThat(requests)
+				.as("requests performed by the test (only MockMvc requests are recorded)")
+				.isNotEmpty();
+		for (RequestStatistics request : requests) {
+			assertThat(request.getStatements())
+					.as("statements of %s", request)
+					.isLessThanOrEqualTo(maxQueries);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.homemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homemanagement.TestData;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.RoleConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	private final List<User> users = new ArrayList<>();
+
+	@AfterEach
+	void deleteData() {
+		userRepository.deleteAllInBatch(users);
+	}
+
+	@Test
+	void requestsRecordStatementCountsAndTokenVerification() throws Exception {
+		createUser("metrics_user", RoleConstants.USER);
+		String token = login("metrics_user");
+
+		mockMvc.perform(get("/api/todos/my").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/todos/my").header("Authorization", "Bearer not-a-token"))
+				.andExpect(status().isForbidden());
+
+		DistributionSummary statements = meterRegistry.get(RequestStatisticsFilter.METRIC_NAME)
+				.tag("method", "GET")
+				.tag("uri", "/api/todos/my")
+				.summary();
+		assertThat(statements.count()).isEqualTo(1);
+		assertThat(statements.totalAmount()).isGreaterThan(0);
+
+		assertThat(meterRegistry.get("security.jwt.verification").tag("outcome", "valid").timer().count())
+				.isGreaterThanOrEqualTo(1);
+		assertThat(meterRegistry.get("security.jwt.verification").tag("outcome", "invalid").timer().count())
+				.isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	void prometheusEndpointIsOnlyAvailableToAdmins() throws Exception {
+		createUser("metrics_admin", RoleConstants.ADMIN);
+		createUser("metrics_viewer", RoleConstants.USER);
+
+		mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + login("metrics_viewer")))
+				.andExpect(status().isForbidden());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus")
+						.header("Authorization", "Bearer " + login("metrics_admin")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		assertThat(scrape)
+				.contains("http_server_requests_seconds_bucket")
+				.contains("spring_data_repository_invocations_seconds")
+				.contains("hikaricp_connections_active")
+				.contains("http_server_requests_statements");
+	}
+
+	private String login(String username) throws Exception {
+		String body = objectMapper.writeValueAsString(Map.of("username", username, "password", "password123"));
+		String response = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response).get("token").asText();
+	}
+
+	private User createUser(String username, String role) {
+		User user = TestData.user(username, role);
+		user.setPassword(passwordEncoder.encode("password123"));
+		User saved = userRepository.save(user);
+		users.add(saved);
+		return saved;
+	}
+}
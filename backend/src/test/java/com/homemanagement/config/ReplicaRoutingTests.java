@@ -0,0 +1,124 @@
+package com.homemanagement.config;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.UserDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.rest.service.TodoStatisticsService;
+import com.homemanagement.rest.service.UserService;
+import com.homemanagement.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The replica is a second pool on the primary's H2 database that logs in as another user; it sees
+ * every committed write at once, like a replica without lag.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+				+ "INIT=CREATE USER IF NOT EXISTS replica PASSWORD 'replica' ADMIN",
+		"datasource.replica.url=jdbc:h2:mem:routing",
+		"datasource.replica.username=replica",
+		"datasource.replica.password=replica",
+		"datasource.replica.read-your-writes=1h"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTests {
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TodoStatisticsService todoStatisticsService;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		assertThat(databaseUser(true)).isEqualToIgnoringCase("replica");
+		assertThat(databaseUser(false)).isEqualToIgnoringCase("sa");
+
+		// Service reads run on the replica, which has the schema and data of the primary
+		assertThat(userService.getAllUsers()).extracting(UserDto::getUsername).contains("admin");
+	}
+
+	@Test
+	void usersReadTheirOwnWritesFromThePrimary() {
+		User writer = saveUser("replica_writer");
+		User reader = saveUser("replica_reader");
+
+		authenticate(reader);
+		assertThat(databaseUser(true)).isEqualToIgnoringCase("replica");
+
+		authenticate(writer);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				userRepository.findById(writer.getId()).orElseThrow().setEmail("replica_writer@elsewhere.local"));
+		assertThat(databaseUser(true)).isEqualToIgnoringCase("sa");
+
+		authenticate(reader);
+		assertThat(databaseUser(true)).isEqualToIgnoringCase("replica");
+	}
+
+	@Test
+	void readsTaggedWithInMemoryVersionsUseThePrimary() {
+		assertThat(ReadRouting.onPrimary(() -> databaseUser(true))).isEqualToIgnoringCase("sa");
+		assertThat(databaseUser(true)).isEqualToIgnoringCase("replica");
+	}
+
+	@Test
+	void statisticsAreReconciledFromASnapshotOfThePrimary() {
+		User user = saveUser("replica_statistics");
+		todoRepository.save(TestData.todo("Counted", user));
+
+		todoStatisticsService.reconcile();
+
+		assertThat(todoStatisticsService.getStatisticsByUsername("replica_statistics").getTotal()).isEqualTo(1);
+	}
+
+	/**
+	 * Database user of the pool that serves a transaction's statements.
+	 */
+	private String databaseUser(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status ->
+				jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getUserName()));
+	}
+
+	private User saveUser(String username) {
+		return userRepository.save(TestData.user(username));
+	}
+
+	private void authenticate(User user) {
+		UserPrincipal principal = UserPrincipal.from(user);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+}
@@ -0,0 +1,202 @@
+package com.homemanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homemanagement.BackendApplication;
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares throughput and latency of the platform-thread and virtual-thread request modes.
+ * Starts the backend once per mode on a random port, seeds one user with todos and drives
+ * {@code GET /api/todos/my} from concurrent clients, then prints both results side by side.
+ *
+ * <p>Runs with {@code ./mvnw -Ploadtest test}. Tuning via system properties passed in
+ * {@code -Dloadtest.args="..."}: {@code loadtest.clients}, {@code loadtest.seconds},
+ * {@code loadtest.warmup-seconds}, {@code loadtest.todos}. The in-memory H2 database of the
+ * test profile never blocks on I/O; set {@code loadtest.datasource.url}, {@code .username} and
+ * {@code .password} to a scratch Postgres database (its tables are dropped) for realistic numbers.
+ */
+public class ThreadModeLoadRunner {
+
+	private static final String USERNAME = "loadtest_user";
+	private static final String PASSWORD = "loadtest-password";
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final int clients = Integer.getInteger("loadtest.clients", 400);
+	private final Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 20));
+	private final Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+	private final int todos = Integer.getInteger("loadtest.todos", 200);
+
+	public static void main(String[] args) throws Exception {
+		ThreadModeLoadRunner runner = new ThreadModeLoadRunner();
+		Result platform = runner.run(false);
+		Result virtual = runner.run(true);
+
+		System.out.printf("%nGET /api/todos/my, %d clients, %ds measured after %ds warmup, %d todos%n",
+				runner.clients, runner.duration.toSeconds(), runner.warmup.toSeconds(), runner.todos);
+		System.out.printf("%-10s %12s %10s %10s %10s %8s%n", "mode", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+		platform.print("platform");
+		virtual.print("virtual");
+		System.exit(0);
+	}
+
+	private Result run(boolean virtualThreads) throws Exception {
+		try (ConfigurableApplicationContext context = startApplication(virtualThreads)) {
+			seed(context);
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			String token = login(baseUrl);
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/todos/my"))
+					.header("Authorization", "Bearer " + token)
+					.GET()
+					.build();
+
+			drive(request, warmup);
+			return drive(request, duration);
+		}
+	}
+
+	private Result drive(HttpRequest request, Duration runFor) throws Exception {
+		long deadline = System.nanoTime() + runFor.toNanos();
+		AtomicLong errors = new AtomicLong();
+		List<Future<long[]>> workers = new ArrayList<>(clients);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < clients; i++) {
+				workers.add(executor.submit(() -> {
+					LatencyRecorder latencies = new LatencyRecorder();
+					while (System.nanoTime() < deadline) {
+						long start = System.nanoTime();
+						HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+						latencies.add(System.nanoTime() - start);
+						if (response.statusCode() != 200) {
+							errors.incrementAndGet();
+						}
+					}
+					return latencies.toArray();
+				}));
+			}
+
+			List<long[]> perClient = new ArrayList<>(clients);
+			for (Future<long[]> worker : workers) {
+				perClient.add(worker.get());
+			}
+			return Result.of(perClient, runFor, errors.get());
+		}
+	}
+
+	private ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+		List<String> properties = new ArrayList<>(List.of(
+				"server.port=0",
+				"spring.threads.virtual.enabled=" + virtualThreads,
+				"logging.level.root=WARN"));
+		String datasourceUrl = System.getProperty("loadtest.datasource.url");
+		if (datasourceUrl != null) {
+			properties.add("spring.datasource.url=" + datasourceUrl);
+			properties.add("spring.datasource.username=" + System.getProperty("loadtest.datasource.username", "postgres"));
+			properties.add("spring.datasource.password=" + System.getProperty("loadtest.datasource.password", "postgres"));
+			properties.add("spring.datasource.driver-class-name=org.postgresql.Driver");
+			properties.add("spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect");
+		}
+
+		return new SpringApplicationBuilder(BackendApplication.class)
+				.profiles("test")
+				.properties(properties.toArray(String[]::new))
+				.run();
+	}
+
+	private void seed(ConfigurableApplicationContext context) {
+		User user = TestData.user(USERNAME);
+		user.setPassword(context.getBean(PasswordEncoder.class).encode(PASSWORD));
+		user = context.getBean(UserRepository.class).save(user);
+
+		List<Todo> seeded = new ArrayList<>(todos);
+		for (int i = 0; i < todos; i++) {
+			Todo todo = TestData.todo("Load test todo " + i, user);
+			todo.setDescription("Seeded by ThreadModeLoadRunner");
+			todo.setDueDate(LocalDate.now().plusDays(i % 30));
+			seeded.add(todo);
+		}
+		context.getBean(TodoRepository.class).saveAll(seeded);
+	}
+
+	private String login(String baseUrl) throws Exception {
+		String body = objectMapper.writeValueAsString(Map.of("username", USERNAME, "password", PASSWORD));
+		HttpResponse<String> response = httpClient.send(
+				HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(body))
+						.build(),
+				HttpResponse.BodyHandlers.ofString());
+		return objectMapper.readTree(response.body()).get("token").asText();
+	}
+
+	/**
+	 * Growable array of latencies recorded by one client.
+	 */
+	private static class LatencyRecorder {
+		private long[] values = new long[1024];
+		private int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+
+	private record Result(long requests, double throughput, double p50Millis, double p99Millis, long errors) {
+
+		static Result of(List<long[]> perClient, Duration runFor, long errors) {
+			long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+			if (all.length == 0) {
+				return new Result(0, 0, 0, 0, errors);
+			}
+			return new Result(
+					all.length,
+					all.length / (runFor.toMillis() / 1000.0),
+					percentile(all, 0.50) / 1_000_000.0,
+					percentile(all, 0.99) / 1_000_000.0,
+					errors);
+		}
+
+		private static long percentile(long[] sorted, double percentile) {
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(index, 0)];
+		}
+
+		void print(String mode) {
+			System.out.printf("%-10s %12d %10.0f %10.2f %10.2f %8d%n", mode, requests, throughput, p50Millis, p99Millis, errors);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.homemanagement.notification;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.mapper.TodoMapper;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.rest.service.TodoChangedEvent;
+import com.homemanagement.rest.service.TodosImportedEvent;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Uses the default due-soon lead of one day and preload window of 7 days, with hourly ticks.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DueNotificationSchedulerTests {
+
+	private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+	@Autowired
+	private DueNotificationScheduler scheduler;
+
+	@Autowired
+	private InMemoryNotificationSink sink;
+
+	@MockitoSpyBean
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoMapper todoMapper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		scheduler.reset();
+		sink.drain();
+		user = userRepository.save(TestData.user("notified_user"));
+	}
+
+	@Test
+	void notificationsExpiringInOneTickAreDeliveredTogether() {
+		Todo tomorrow = saveTodo("Pay rent", MONDAY.plusDays(1), Todo.TodoStatus.PENDING);
+		Todo wednesday = saveTodo("Buy paint", MONDAY.plusDays(3), Todo.TodoStatus.IN_PROGRESS);
+		saveTodo("Done already", MONDAY.plusDays(1), Todo.TodoStatus.COMPLETED);
+		saveTodo("Missed", MONDAY.minusDays(1), Todo.TodoStatus.PENDING);
+
+		// The due-soon deadline of tomorrow's todo passed at midnight, before the first tick
+		scheduler.deliverDue(at(MONDAY, 9));
+		assertThat(scheduler.watched()).isEqualTo(2);
+		assertThat(deliveries()).isEmpty();
+
+		scheduler.deliverDue(at(MONDAY.plusDays(2), 0));
+		List<InMemoryNotificationSink.Delivery> deliveries = deliveries();
+		assertThat(deliveries).hasSize(1);
+		assertThat(deliveries.get(0).notifications()).containsExactly(
+				new DueNotification(DueNotification.Type.OVERDUE, tomorrow.getId(), "Pay rent", MONDAY.plusDays(1)),
+				new DueNotification(DueNotification.Type.DUE_SOON, wednesday.getId(), "Buy paint", MONDAY.plusDays(3)));
+
+		scheduler.deliverDue(at(MONDAY.plusDays(4), 0));
+		assertThat(deliveries()).flatExtracting(InMemoryNotificationSink.Delivery::notifications)
+				.extracting(DueNotification::type)
+				.containsExactly(DueNotification.Type.OVERDUE);
+		assertThat(scheduler.watched()).isZero();
+	}
+
+	@Test
+	void writesRescheduleOrCancelNotifications() {
+		scheduler.deliverDue(at(MONDAY, 9));
+
+		Todo todo = saveTodo("Call plumber", MONDAY.plusDays(2), Todo.TodoStatus.PENDING);
+		TodoDto created = todoMapper.toDto(todo);
+		scheduler.onTodoChanged(TodoChangedEvent.created(created));
+
+		todo.setDueDate(MONDAY.plusDays(3));
+		TodoDto postponed = todoMapper.toDto(todo);
+		scheduler.onTodoChanged(TodoChangedEvent.updated(created, postponed));
+
+		scheduler.deliverDue(at(MONDAY.plusDays(1), 12));
+		assertThat(deliveries()).isEmpty();
+		scheduler.deliverDue(at(MONDAY.plusDays(2), 12));
+		assertThat(deliveries()).flatExtracting(InMemoryNotificationSink.Delivery::notifications)
+				.containsExactly(new DueNotification(DueNotification.Type.DUE_SOON, todo.getId(), "Call plumber",
+						MONDAY.plusDays(3)));
+
+		todo.setStatus(Todo.TodoStatus.COMPLETED);
+		scheduler.onTodoChanged(TodoChangedEvent.updated(postponed, todoMapper.toDto(todo)));
+		scheduler.deliverDue(at(MONDAY.plusDays(5), 0));
+		assertThat(deliveries()).isEmpty();
+		assertThat(scheduler.watched()).isZero();
+	}
+
+	@Test
+	void ticksReadTodosOnlyWhenTheWindowMovesOn() {
+		saveTodo("Near", MONDAY.plusDays(2), Todo.TodoStatus.PENDING);
+		saveTodo("Far", MONDAY.plusDays(20), Todo.TodoStatus.PENDING);
+		entityManager.flush();
+
+		scheduler.deliverDue(at(MONDAY, 9));
+		assertThat(scheduler.watched()).isEqualTo(1);
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		for (int hour = 10; hour < 24 * 5; hour++) {
+			scheduler.deliverDue(at(MONDAY, 0).plusSeconds(hour * 3600L));
+		}
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(deliveries()).hasSize(2);
+
+		// Far is past the first window and is loaded once the window moves on
+		scheduler.deliverDue(at(MONDAY.plusDays(12), 0));
+		assertThat(scheduler.watched()).isEqualTo(1);
+		scheduler.deliverDue(at(MONDAY.plusDays(19), 0));
+		assertThat(deliveries()).flatExtracting(InMemoryNotificationSink.Delivery::notifications)
+				.extracting(DueNotification::title)
+				.containsExactly("Far");
+	}
+
+	@Test
+	void deadlinesPassingBeforeAnImportAreStillNotified() {
+		Todo todo = saveTodo("Renew insurance", MONDAY.plusDays(2), Todo.TodoStatus.PENDING);
+		scheduler.deliverDue(at(MONDAY, 23));
+
+		// The due-soon deadline passes at midnight; an import comes in before the next tick
+		scheduler.onTodosImported(new TodosImportedEvent(Set.of("someone_else")));
+		scheduler.deliverDue(at(MONDAY.plusDays(1), 1));
+		assertThat(deliveries()).flatExtracting(InMemoryNotificationSink.Delivery::notifications)
+				.containsExactly(new DueNotification(DueNotification.Type.DUE_SOON, todo.getId(), "Renew insurance",
+						MONDAY.plusDays(2)));
+
+		// Rebuilding does not notify deadlines delivered before
+		scheduler.onTodosImported(new TodosImportedEvent(Set.of("someone_else")));
+		scheduler.deliverDue(at(MONDAY.plusDays(1), 2));
+		assertThat(deliveries()).isEmpty();
+		assertThat(scheduler.watched()).isEqualTo(1);
+	}
+
+	@Test
+	void changesArrivingWhileTheWindowIsReadWinOverItsRows() {
+		Todo todo = saveTodo("Descale kettle", MONDAY.plusDays(2), Todo.TodoStatus.PENDING);
+		TodoDto pending = todoMapper.toDto(todo);
+		todo.setStatus(Todo.TodoStatus.COMPLETED);
+		TodoDto completed = todoMapper.toDto(todo);
+
+		// The page is read before the todo is completed; the writer publishing the completion is not held up
+		doAnswer(invocation -> {
+			CompletableFuture.runAsync(() -> scheduler.onTodoChanged(TodoChangedEvent.updated(pending, completed)))
+					.get(10, TimeUnit.SECONDS);
+			return List.of(pending);
+		}).when(todoRepository).findOpenDtosDueBetween(any(), any(), any(), any());
+		scheduler.deliverDue(at(MONDAY, 9));
+
+		assertThat(scheduler.watched()).isZero();
+		scheduler.deliverDue(at(MONDAY.plusDays(4), 0));
+		assertThat(deliveries()).isEmpty();
+	}
+
+	private Todo saveTodo(String title, LocalDate dueDate, Todo.TodoStatus status) {
+		Todo todo = TestData.todo(title, user);
+		todo.setDueDate(dueDate);
+		todo.setStatus(status);
+		return todoRepository.save(todo);
+	}
+
+	private static Instant at(LocalDate date, int hour) {
+		return date.atTime(hour, 0).atZone(ZoneId.systemDefault()).toInstant();
+	}
+
+	/**
+	 * Deliveries to the test user since the last call.
+	 */
+	private List<InMemoryNotificationSink.Delivery> deliveries() {
+		return sink.drain().stream()
+				.filter(delivery -> delivery.username().equals(user.getUsername()))
+				.toList();
+	}
+}
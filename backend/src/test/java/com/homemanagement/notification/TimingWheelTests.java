@@ -0,0 +1,70 @@
+package com.homemanagement.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTests {
+
+	private static final Instant START = Instant.parse("2026-03-02T00:00:00Z");
+
+	private final TimingWheel<String> wheel = new TimingWheel<>(Duration.ofMinutes(1), 8, START);
+
+	@Test
+	void expiresAtTheFirstTickAtOrAfterTheDeadline() {
+		wheel.schedule(START.plusSeconds(90), "a");
+
+		assertThat(advance(START.plusSeconds(119))).isEmpty();
+		assertThat(advance(START.plusSeconds(120))).containsExactly("a");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void keepsDeadlinesOfLaterRevolutionsInTheirSlot() {
+		// Both hash to the slot of minute 3
+		wheel.schedule(START.plus(Duration.ofMinutes(3)), "first");
+		wheel.schedule(START.plus(Duration.ofMinutes(11)), "second");
+
+		assertThat(advance(START.plus(Duration.ofMinutes(3)))).containsExactly("first");
+		assertThat(advance(START.plus(Duration.ofMinutes(10)))).isEmpty();
+		assertThat(advance(START.plus(Duration.ofMinutes(11)))).containsExactly("second");
+	}
+
+	@Test
+	void cancelledTimeoutsNeverExpire() {
+		TimingWheel.Timeout<String> cancelled = wheel.schedule(START.plus(Duration.ofMinutes(2)), "cancelled");
+		wheel.schedule(START.plus(Duration.ofMinutes(2)), "kept");
+		wheel.cancel(cancelled);
+		wheel.cancel(cancelled);
+
+		assertThat(wheel.size()).isEqualTo(1);
+		assertThat(advance(START.plus(Duration.ofMinutes(2)))).containsExactly("kept");
+	}
+
+	@Test
+	void expiresEverythingOverdueAfterALongPause() {
+		for (int minute = 1; minute <= 30; minute++) {
+			wheel.schedule(START.plus(Duration.ofMinutes(minute)), "m" + minute);
+		}
+		wheel.schedule(START.plus(Duration.ofHours(2)), "later");
+
+		assertThat(advance(START.plus(Duration.ofHours(1)))).hasSize(30);
+		assertThat(wheel.time()).isEqualTo(START.plus(Duration.ofHours(1)));
+
+		// Deadlines already passed expire on the next tick
+		wheel.schedule(START, "late");
+		assertThat(advance(START.plus(Duration.ofMinutes(61)))).containsExactly("late");
+		assertThat(advance(START.plus(Duration.ofHours(2)))).containsExactly("later");
+	}
+
+	private List<String> advance(Instant now) {
+		List<String> expired = new ArrayList<>();
+		wheel.advance(now, expired::add);
+		return expired;
+	}
+}
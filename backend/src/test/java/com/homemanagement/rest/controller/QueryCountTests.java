@@ -0,0 +1,97 @@
+package com.homemanagement.rest.controller;
+
+import com.homemanagement.TestData;
+import com.homemanagement.config.MaxQueries;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the list endpoints, which must not grow with the number of users or todos.
+ * Not transactional: the data is committed so requests cannot be served from the test's persistence context.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCountTests {
+
+	private static final int USERS = 5;
+	private static final int TODOS_PER_USER = 4;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	private final List<User> users = new ArrayList<>();
+	private final List<Todo> todos = new ArrayList<>();
+
+	@BeforeEach
+	void createData() {
+		for (int i = 0; i < USERS; i++) {
+			User user = userRepository.save(TestData.user("query_count_user" + i));
+			users.add(user);
+
+			for (int j = 0; j < TODOS_PER_USER; j++) {
+				todos.add(todoRepository.save(TestData.todo("Todo " + j, user)));
+			}
+		}
+	}
+
+	@AfterEach
+	void deleteData() {
+		todoRepository.deleteAllInBatch(todos);
+		userRepository.deleteAllInBatch(users);
+	}
+
+	@Test
+	@MaxQueries(2)
+	@WithMockUser(roles = "ADMIN")
+	void allUsersWithTodoCounts() throws Exception {
+		mockMvc.perform(get("/api/users"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@MaxQueries(1)
+	@WithMockUser(roles = "ADMIN")
+	void allTodos() throws Exception {
+		mockMvc.perform(get("/api/todos"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/todos/page").param("size", "10"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[9].assignedToUsername").exists());
+	}
+
+	@Test
+	@MaxQueries(1)
+	@WithMockUser(username = "query_count_user0")
+	void ownTodosAndPages() throws Exception {
+		mockMvc.perform(get("/api/todos/my"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(TODOS_PER_USER));
+		mockMvc.perform(get("/api/todos/my/page").param("size", "2"))
+				.andExpect(status().isOk());
+	}
+}
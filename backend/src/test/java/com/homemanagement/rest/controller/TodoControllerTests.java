@@ -0,0 +1,59 @@
+package com.homemanagement.rest.controller;
+
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.service.TodoChangedEvent;
+import com.homemanagement.rest.service.TodoVersionTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TodoVersionTracker todoVersionTracker;
+
+	@Test
+	@WithMockUser(username = "etag_user")
+	void unchangedListIsAnsweredWithNotModified() throws Exception {
+		String etag = mockMvc.perform(get("/api/todos/my"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).isNotNull();
+
+		mockMvc.perform(get("/api/todos/my").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		TodoDto changed = new TodoDto();
+		changed.setAssignedToUsername("etag_user");
+		todoVersionTracker.onTodoChanged(TodoChangedEvent.created(changed));
+
+		String newEtag = mockMvc.perform(get("/api/todos/my").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(newEtag).isNotEqualTo(etag);
+	}
+
+	@Test
+	@WithMockUser(username = "cursor_user")
+	void malformedCursorIsABadRequest() throws Exception {
+		mockMvc.perform(get("/api/todos/my/page").param("cursor", "not-a-cursor"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Invalid cursor"));
+	}
+}
@@ -0,0 +1,124 @@
+package com.homemanagement.rest.repository;
+
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.CreateUserRequest;
+import com.homemanagement.dto.UpdateUserRequest;
+import com.homemanagement.dto.UserDto;
+import com.homemanagement.rest.service.UserService;
+import com.homemanagement.security.RoleConstants;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test transaction so every lookup uses its own session, as requests do.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheTests {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private SessionFactory sessionFactory;
+	private Statistics statistics;
+	private final List<Long> userIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		statistics = sessionFactory.getStatistics();
+		sessionFactory.getCache().evictAllRegions();
+	}
+
+	@AfterEach
+	void deleteData() {
+		userRepository.deleteAllByIdInBatch(userIds);
+	}
+
+	@Test
+	void repeatedUsernameLookupsStopHittingTheDatabase() {
+		createUser("cached_user");
+		sessionFactory.getCache().evictAllRegions();
+
+		long firstLookup = countStatements(() -> userRepository.findByUsername("cached_user").orElseThrow());
+		long laterLookups = countStatements(() -> {
+			for (int i = 0; i < 3; i++) {
+				User user = userRepository.findByUsername("cached_user").orElseThrow();
+				assertThat(user.getRoles()).containsExactly(RoleConstants.USER);
+			}
+		});
+
+		assertThat(firstLookup).isPositive();
+		assertThat(laterLookups).isZero();
+	}
+
+	@Test
+	void userServiceWritesAreVisibleToCachedLookups() {
+		UserDto created = createUser("changing_user");
+		userRepository.findByUsername("changing_user").orElseThrow();
+
+		UpdateUserRequest update = new UpdateUserRequest();
+		update.setEmail("changed@home.local");
+		update.setRoles(Set.of(RoleConstants.USER, RoleConstants.ADMIN));
+		userService.updateUser(created.getId(), update);
+
+		User updated = userRepository.findByUsername("changing_user").orElseThrow();
+		assertThat(updated.getEmail()).isEqualTo("changed@home.local");
+		assertThat(updated.getRoles()).containsExactlyInAnyOrder(RoleConstants.USER, RoleConstants.ADMIN);
+		assertThat(updated.getTokenVersion()).isEqualTo(1);
+
+		userService.deleteUser(created.getId());
+
+		assertThat(userRepository.findByUsername("changing_user")).isEmpty();
+	}
+
+	@Test
+	void userListIsServedFromQueryCacheUntilUsersChange() {
+		createUser("listed_user");
+
+		userService.getAllUsers();
+		long cachedListing = countStatements(() -> userService.getAllUsers());
+		createUser("another_listed_user");
+		long listingAfterWrite = countStatements(() -> assertThat(userService.getAllUsers())
+				.extracting(UserDto::getUsername)
+				.contains("listed_user", "another_listed_user"));
+
+		assertThat(cachedListing).isZero();
+		assertThat(listingAfterWrite).isPositive();
+	}
+
+	private long countStatements(Runnable action) {
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private UserDto createUser(String username) {
+		CreateUserRequest request = new CreateUserRequest();
+		request.setUsername(username);
+		request.setEmail(username + "@home.local");
+		request.setPassword("password123");
+		UserDto created = userService.createUser(request);
+		userIds.add(created.getId());
+		return created;
+	}
+}
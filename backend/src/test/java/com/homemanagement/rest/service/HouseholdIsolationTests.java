@@ -0,0 +1,138 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Household;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.UserDto;
+import com.homemanagement.exception.ResourceNotFoundException;
+import com.homemanagement.rest.repository.HouseholdRepository;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.JwtTokenProvider;
+import com.homemanagement.security.RoleConstants;
+import com.homemanagement.security.UserPrincipal;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class HouseholdIsolationTests {
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private HouseholdRepository householdRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User adminA;
+	private User adminB;
+	private Todo todoA;
+	private Todo todoB;
+
+	@BeforeEach
+	void setUp() {
+		Long householdA = createHousehold("Household A");
+		Long householdB = createHousehold("Household B");
+		adminA = createUser("admin_a", householdA);
+		adminB = createUser("admin_b", householdB);
+		todoA = createTodo(adminA);
+		todoB = createTodo(adminB);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void listingsOnlyContainTheCurrentHousehold() {
+		authenticate(adminA);
+		assertThat(todoService.getAllTodos()).extracting(TodoDto::getId).containsExactly(todoA.getId());
+		assertThat(userService.getAllUsers()).extracting(UserDto::getUsername).containsExactly("admin_a");
+
+		// The user listing is a cached query; household B must not be served household A's result
+		authenticate(adminB);
+		assertThat(todoService.getAllTodos()).extracting(TodoDto::getId).containsExactly(todoB.getId());
+		assertThat(userService.getAllUsers()).extracting(UserDto::getUsername).containsExactly("admin_b");
+	}
+
+	@Test
+	void rowsOfOtherHouseholdsAreNotFound() {
+		authenticate(adminA);
+		UserPrincipal principal = UserPrincipal.from(adminA);
+
+		assertThatThrownBy(() -> userService.getUserById(adminB.getId()))
+				.isInstanceOf(ResourceNotFoundException.class);
+		assertThatThrownBy(() -> todoService.updateTodo(todoB.getId(), new TodoDto(), principal))
+				.isInstanceOf(ResourceNotFoundException.class);
+
+		TodoDto todoDto = new TodoDto();
+		todoDto.setTitle("Not yours");
+		todoDto.setAssignedToId(adminB.getId());
+		assertThatThrownBy(() -> todoService.createTodo(todoDto, principal))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	void tokensCarryTheHousehold() {
+		UserPrincipal principal = UserPrincipal.from(adminB);
+		String token = jwtTokenProvider.generateToken(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()), 0);
+
+		assertThat(jwtTokenProvider.getHouseholdId(jwtTokenProvider.parseAndVerify(token)))
+				.isEqualTo(adminB.getHouseholdId());
+	}
+
+	private void authenticate(User user) {
+		UserPrincipal principal = UserPrincipal.from(user);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	private Long createHousehold(String name) {
+		Household household = new Household();
+		household.setName(name);
+		return householdRepository.save(household).getId();
+	}
+
+	private User createUser(String username, Long householdId) {
+		User user = TestData.user(username, RoleConstants.ADMIN);
+		user.setHouseholdId(householdId);
+		return userRepository.save(user);
+	}
+
+	private Todo createTodo(User assignee) {
+		return todoRepository.save(TestData.todo("Todo of " + assignee.getUsername(), assignee));
+	}
+}
@@ -0,0 +1,143 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.ImportRejectionDto;
+import com.homemanagement.dto.ImportReportDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.RoleConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ImportServiceTests {
+
+	@Autowired
+	private ImportService importService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.save(TestData.user("import_existing"));
+	}
+
+	@Test
+	void importsValidUsersAndReportsTheRest() throws Exception {
+		String csv = """
+				username,email,password,roles
+				import_anna,anna@home.local,password123,ROLE_USER;ROLE_ADMIN
+				import_ben,not-an-email,password123,
+				import_anna,anna2@home.local,password123,
+				import_existing,other@home.local,password123,
+				import_carl,carl@home.local,password123,
+				""";
+
+		ImportReportDto report = importService.importUsers(DataFormat.CSV, body(csv));
+
+		assertThat(report.getImported()).isEqualTo(2);
+		assertThat(report.getRejected()).isEqualTo(3);
+		assertThat(report.getRejections()).extracting(ImportRejectionDto::getLine).containsExactly(3L, 4L, 5L);
+		assertThat(report.getRejections().get(0).getErrors()).containsExactly("Email must be valid");
+
+		User anna = userRepository.findByUsername("import_anna").orElseThrow();
+		assertThat(anna.getRoles()).containsExactlyInAnyOrder(RoleConstants.USER, RoleConstants.ADMIN);
+		assertThat(passwordEncoder.matches("password123", anna.getPassword())).isTrue();
+		assertThat(userRepository.findByUsername("import_carl").orElseThrow().getRoles())
+				.containsExactly(RoleConstants.USER);
+	}
+
+	@Test
+	void importsCsvTodosForKnownAssignees() throws Exception {
+		String csv = """
+				title,description,status,category,dueDate,assignedToUsername
+				"Paint fence, front","Two coats
+				of white",COMPLETED,GARDEN,2030-05-01,import_existing
+				Mow lawn,,,GARDEN,,import_nobody
+				,Missing title,PENDING,GARDEN,,import_existing
+				Fix tap,,DONE,MAINTENANCE,,import_existing
+				Clean gutters,,,MAINTENANCE,,import_existing
+				""";
+
+		ImportReportDto report = importService.importTodos(DataFormat.CSV, body(csv));
+
+		assertThat(report.getImported()).isEqualTo(2);
+		assertThat(report.getRejections()).extracting(ImportRejectionDto::getLine).containsExactly(4L, 5L, 6L);
+		assertThat(report.getRejections()).extracting(ImportRejectionDto::getErrors).containsExactly(
+				List.of("Assigned user not found: import_nobody"),
+				List.of("Title is required"),
+				List.of("status: invalid value"));
+
+		List<Todo> todos = todoRepository.findByAssignedToUsername("import_existing");
+		assertThat(todos).extracting(Todo::getTitle).containsExactlyInAnyOrder("Paint fence, front", "Clean gutters");
+		Todo painted = todos.stream().filter(todo -> todo.getTitle().startsWith("Paint")).findFirst().orElseThrow();
+		assertThat(painted.getDescription()).isEqualTo("Two coats\nof white");
+		assertThat(painted.getDueDate()).isEqualTo(LocalDate.of(2030, 5, 1));
+		assertThat(painted.getCompletedAt()).isNotNull();
+		assertThat(painted.getLastModified()).isNotNull();
+	}
+
+	@Test
+	void importsNdjsonTodosAndReportsMalformedLines() throws Exception {
+		String ndjson = """
+				{"title":"Water plants","category":"GARDEN","assignedToUsername":"import_existing"}
+
+				{"title":"Broken",
+				{"title":"No assignee","category":"GARDEN"}
+				""";
+
+		ImportReportDto report = importService.importTodos(DataFormat.NDJSON, body(ndjson));
+
+		assertThat(report.getImported()).isEqualTo(1);
+		assertThat(report.getRejections()).extracting(ImportRejectionDto::getLine).containsExactly(3L, 4L);
+		assertThat(report.getRejections().get(1).getErrors()).containsExactly("Assignee username is required");
+		assertThat(todoRepository.findByAssignedToUsername("import_existing"))
+				.extracting(Todo::getStatus)
+				.containsExactly(Todo.TodoStatus.PENDING);
+	}
+
+	@Test
+	void reportsTheRejectionsOfTheFirstLines() throws Exception {
+		// Unknown assignees are only rejected once their chunk is written, after the invalid lines between them
+		StringBuilder csv = new StringBuilder("title,assignedToUsername\n");
+		for (int i = 0; i < ImportService.CHUNK_SIZE; i++) {
+			csv.append("Mow lawn,import_nobody\n").append(",import_existing\n");
+		}
+
+		ImportReportDto report = importService.importTodos(DataFormat.CSV, body(csv.toString()));
+
+		assertThat(report.getRejected()).isEqualTo(2L * ImportService.CHUNK_SIZE);
+		assertThat(report.getRejections()).hasSize(ImportService.MAX_REPORTED_REJECTIONS);
+		assertThat(report.getRejections().get(0).getLine()).isEqualTo(2L);
+		assertThat(report.getRejections().get(ImportService.MAX_REPORTED_REJECTIONS - 1).getLine())
+				.isEqualTo(ImportService.MAX_REPORTED_REJECTIONS + 1L);
+	}
+
+	private static InputStream body(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+}
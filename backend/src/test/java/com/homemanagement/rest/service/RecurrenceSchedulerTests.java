@@ -0,0 +1,168 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.RecurrenceRule;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.RecurrenceRuleDto;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.RecurrenceRuleRepository;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.UserPrincipal;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Uses the default lookahead of 14 days and preload window of 7 days.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RecurrenceSchedulerTests {
+
+	private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+	@Autowired
+	private RecurrenceScheduler recurrenceScheduler;
+
+	@Autowired
+	private RecurrenceService recurrenceService;
+
+	@Autowired
+	private RecurrenceRuleRepository recurrenceRuleRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		recurrenceScheduler.reset();
+		user = userRepository.save(TestData.user("recurrence_user"));
+	}
+
+	@Test
+	void occurrencesWithinLookaheadAreCreatedOnce() {
+		RecurrenceRule rule = saveRule(RecurrenceRule.Frequency.WEEKLY, MONDAY, MONDAY);
+
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY)).isEqualTo(3);
+		assertThat(dueDates()).containsExactly(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2));
+		assertThat(rule.getNextOccurrence()).isEqualTo(MONDAY.plusWeeks(3));
+
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY)).isZero();
+
+		// A restart that finds the rule as if its progress had been lost inserts nothing twice
+		recurrenceScheduler.reset();
+		rule.setNextOccurrence(MONDAY);
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY)).isZero();
+		assertThat(dueDates()).hasSize(3);
+		assertThat(rule.getNextOccurrence()).isEqualTo(MONDAY.plusWeeks(3));
+	}
+
+	@Test
+	void ticksReadRulesOnlyWhenTheLookaheadLeavesThePreloadedWindow() {
+		saveRule(RecurrenceRule.Frequency.WEEKLY, MONDAY, MONDAY);
+		recurrenceScheduler.createDueOccurrences(MONDAY);
+		entityManager.flush();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		for (int day = 0; day < 7; day++) {
+			assertThat(recurrenceScheduler.createDueOccurrences(MONDAY.plusDays(day))).isZero();
+		}
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		// The fourth occurrence was queued from the preloaded window
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY.plusDays(7))).isEqualTo(1);
+		assertThat(dueDates()).last().isEqualTo(MONDAY.plusWeeks(3));
+
+		// The fifth lies past it and is found once the lookahead leaves the window
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY.plusDays(13))).isZero();
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY.plusDays(14))).isEqualTo(1);
+		assertThat(dueDates()).last().isEqualTo(MONDAY.plusWeeks(4));
+	}
+
+	@Test
+	void occurrencesMissedWhileStoppedAreSkipped() {
+		saveRule(RecurrenceRule.Frequency.DAILY, MONDAY.minusDays(30), MONDAY.minusDays(10));
+
+		assertThat(recurrenceScheduler.createDueOccurrences(MONDAY)).isEqualTo(15);
+		assertThat(dueDates()).first().isEqualTo(MONDAY);
+	}
+
+	@Test
+	void monthlyOccurrencesKeepTheirDayOfMonthUntilTheEndDate() {
+		RecurrenceRule rule = new RecurrenceRule();
+		rule.setFrequency(RecurrenceRule.Frequency.MONTHLY);
+		rule.setStartDate(LocalDate.of(2026, 1, 31));
+		rule.setEndDate(LocalDate.of(2026, 4, 30));
+
+		assertThat(rule.occurrenceAfter(LocalDate.of(2026, 1, 1))).isEqualTo(LocalDate.of(2026, 1, 31));
+		assertThat(rule.occurrenceAfter(LocalDate.of(2026, 1, 31))).isEqualTo(LocalDate.of(2026, 2, 28));
+		assertThat(rule.occurrenceAfter(LocalDate.of(2026, 2, 28))).isEqualTo(LocalDate.of(2026, 3, 31));
+		assertThat(rule.occurrenceAfter(LocalDate.of(2026, 3, 31))).isEqualTo(LocalDate.of(2026, 4, 30));
+		assertThat(rule.occurrenceAfter(LocalDate.of(2026, 4, 30))).isNull();
+
+		rule.setInterval(2);
+		rule.setEndDate(null);
+		assertThat(rule.occurrenceAfter(LocalDate.of(2026, 1, 31))).isEqualTo(LocalDate.of(2026, 3, 31));
+	}
+
+	@Test
+	void usersCreateRulesOnlyForThemselves() {
+		RecurrenceRuleDto ruleDto = new RecurrenceRuleDto();
+		ruleDto.setTitle("Water the plants");
+		ruleDto.setAssignedToId(user.getId());
+		ruleDto.setFrequency(RecurrenceRule.Frequency.WEEKLY);
+		ruleDto.setStartDate(LocalDate.now().minusDays(3));
+
+		RecurrenceRuleDto created = recurrenceService.createRule(ruleDto, UserPrincipal.from(user));
+		assertThat(created.getNextOccurrence()).isEqualTo(LocalDate.now().plusDays(4));
+		assertThat(recurrenceService.getRules(UserPrincipal.from(user))).extracting(RecurrenceRuleDto::getId)
+				.containsExactly(created.getId());
+
+		User saved = userRepository.save(TestData.user("recurrence_other"));
+		assertThatThrownBy(() -> recurrenceService.createRule(ruleDto, UserPrincipal.from(saved)))
+				.isInstanceOf(AccessDeniedException.class);
+		assertThatThrownBy(() -> recurrenceService.deleteRule(created.getId(), UserPrincipal.from(saved)))
+				.isInstanceOf(AccessDeniedException.class);
+	}
+
+	private RecurrenceRule saveRule(RecurrenceRule.Frequency frequency, LocalDate startDate, LocalDate nextOccurrence) {
+		RecurrenceRule rule = new RecurrenceRule();
+		rule.setTitle("Clean the kitchen");
+		rule.setAssignedTo(user);
+		rule.setFrequency(frequency);
+		rule.setStartDate(startDate);
+		rule.setNextOccurrence(nextOccurrence);
+		return recurrenceRuleRepository.save(rule);
+	}
+
+	private List<LocalDate> dueDates() {
+		return todoRepository.findDtosByAssigneeUsername(user.getUsername()).stream()
+				.map(TodoDto::getDueDate)
+				.sorted()
+				.toList();
+	}
+}
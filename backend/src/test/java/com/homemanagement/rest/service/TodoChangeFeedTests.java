@@ -0,0 +1,159 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.dto.TodoDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class TodoChangeFeedTests {
+
+	private static final Long HOUSEHOLD_ID = 1L;
+
+	private final TodoChangeFeed feed = new TodoChangeFeed(3, 0, 2);
+
+	@Test
+	void replaysOnlyMissedEventsVisibleToTheSubscriber() {
+		String start = publish("alice", null);
+		publish("bob", null);
+		publish("bob", "alice");
+		publish("alice", null);
+
+		Optional<List<TodoChangeFeed.Entry>> missed = feed.replay(start, subscriber("alice", false));
+
+		assertThat(missed).isPresent();
+		assertThat(missed.get()).extracting(entry -> entry.event().todo().getAssignedToUsername())
+				.containsExactly("bob", "alice");
+	}
+
+	@Test
+	void adminsReceiveEveryChange() {
+		String start = publish("alice", null);
+		publish("bob", null);
+		publish("carol", null);
+
+		assertThat(feed.replay(start, subscriber("admin", true)).orElseThrow()).hasSize(2);
+	}
+
+	@Test
+	void adminsReceiveOnlyChangesOfTheirHousehold() {
+		String start = publish("alice", null);
+		publish("bob", null);
+		publish("zoe", null, 2L);
+
+		assertThat(feed.replay(start, subscriber("admin", true)).orElseThrow())
+				.extracting(entry -> entry.event().todo().getAssignedToUsername())
+				.containsExactly("bob");
+	}
+
+	@Test
+	void requestsResetWhenRingNoLongerCoversLastEventId() {
+		String start = publish("alice", null);
+		for (int i = 0; i < 4; i++) {
+			publish("alice", null);
+		}
+
+		assertThat(feed.replay(start, subscriber("alice", false))).isEmpty();
+	}
+
+	@Test
+	void requestsResetForIdsFromAnotherServerRun() {
+		publish("alice", null);
+
+		assertThat(feed.replay("0-1", subscriber("alice", false))).isEmpty();
+		assertThat(feed.replay("garbage", subscriber("alice", false))).isEmpty();
+	}
+
+	@Test
+	void stalledSubscribersHoldUpNeitherPublishersNorOtherSubscribers() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		StalledEmitter stalled = new StalledEmitter(release);
+		RecordingEmitter healthy = new RecordingEmitter(4);
+		feed.subscribe(new TodoChangeFeed.Subscriber("alice", false, HOUSEHOLD_ID, stalled, 2), null);
+		feed.subscribe(new TodoChangeFeed.Subscriber("alice", false, HOUSEHOLD_ID, healthy, 16), null);
+
+		// The first event blocks the stalled client's sender; the next two fill its queue, the last overflows it
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			publish("alice", null);
+			assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+			for (int i = 0; i < 3; i++) {
+				publish("alice", null);
+			}
+		});
+		assertThat(healthy.received.await(5, TimeUnit.SECONDS)).isTrue();
+
+		release.countDown();
+		assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	/**
+	 * Publish a change and return its event id.
+	 */
+	private String publish(String assignee, String previousAssignee) {
+		return publish(assignee, previousAssignee, HOUSEHOLD_ID);
+	}
+
+	private String publish(String assignee, String previousAssignee, Long householdId) {
+		TodoDto before = new TodoDto();
+		before.setAssignedToUsername(previousAssignee != null ? previousAssignee : assignee);
+		before.setHouseholdId(householdId);
+		TodoDto after = new TodoDto();
+		after.setAssignedToUsername(assignee);
+		after.setHouseholdId(householdId);
+		feed.onTodoChanged(TodoChangedEvent.updated(before, after));
+		return feed.lastEventId();
+	}
+
+	/**
+	 * Blocks in the first send until released.
+	 */
+	private static final class StalledEmitter extends SseEmitter {
+		private final CountDownLatch release;
+		private final CountDownLatch sending = new CountDownLatch(1);
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		StalledEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			sending.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}
+
+		@Override
+		public void complete() {
+			completed.countDown();
+		}
+	}
+
+	private static final class RecordingEmitter extends SseEmitter {
+		private final CountDownLatch received;
+
+		RecordingEmitter(int expected) {
+			this.received = new CountDownLatch(expected);
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			received.countDown();
+		}
+	}
+
+	private TodoChangeFeed.Subscriber subscriber(String username, boolean admin) {
+		return new TodoChangeFeed.Subscriber(username, admin, HOUSEHOLD_ID, new SseEmitter(), 2);
+	}
+}
@@ -0,0 +1,80 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a million todos to check that memory use does not grow with the row count.
+ * Excluded from the default build; run with {@code ./mvnw -Plarge-tests test}, which limits the heap
+ * far below what the materialized export would need. The database is file-backed so the rows are
+ * not kept on the heap either.
+ */
+@Tag("large")
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:file:./target/h2/export-large;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+		"spring.jpa.properties.hibernate.generate_statistics=false"
+})
+@ActiveProfiles("test")
+class TodoExportLargeTests {
+
+	private static final int ROWS = 1_000_000;
+
+	@Autowired
+	private TodoExportService todoExportService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void exportsMillionTodosInConstantMemory() throws Exception {
+		User user = userRepository.save(TestData.user("export_large_user"));
+
+		jdbcTemplate.update("insert into todos (title, description, status, category, user_id, due_date, "
+				+ "created_at, last_modified, deleted) "
+				+ "select 'Todo ' || x, 'Generated todo number ' || x, 'PENDING', 'HOUSEHOLD', ?, "
+				+ "dateadd('DAY', mod(x, 365), current_date), localtimestamp, current_timestamp, false "
+				+ "from system_range(1, " + ROWS + ") r(x)", user.getId());
+
+		for (DataFormat format : DataFormat.values()) {
+			LineCountingOutputStream out = new LineCountingOutputStream();
+
+			long count = todoExportService.export(format, out);
+
+			long headerLines = format == DataFormat.CSV ? 1 : 0;
+			assertThat(count).isEqualTo(ROWS);
+			assertThat(out.lines).isEqualTo(ROWS + headerLines);
+		}
+	}
+
+	private static class LineCountingOutputStream extends OutputStream {
+		private long lines;
+
+		@Override
+		public void write(int b) {
+			if (b == '\n') {
+				lines++;
+			}
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			for (int i = offset; i < offset + length; i++) {
+				write(bytes[i]);
+			}
+		}
+	}
+}
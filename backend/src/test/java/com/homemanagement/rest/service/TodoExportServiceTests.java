@@ -0,0 +1,77 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TodoExportServiceTests {
+
+	@Autowired
+	private TodoExportService todoExportService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(TestData.user("export_user"));
+
+		createTodo("Plain", null);
+		createTodo("Buy milk, eggs", "Say \"please\"\nand thanks");
+	}
+
+	@Test
+	void exportsOneJsonObjectPerLine() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = todoExportService.export(DataFormat.NDJSON, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(count).isEqualTo(2);
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).startsWith("{").contains("\"title\":\"Plain\"", "\"assignedToUsername\":\"export_user\"");
+		assertThat(lines[1]).contains("\"description\":\"Say \\\"please\\\"\\nand thanks\"", "\"dueDate\":\"2030-01-15\"");
+	}
+
+	@Test
+	void exportsCsvWithQuotedFields() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = todoExportService.export(DataFormat.CSV, out);
+
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertThat(count).isEqualTo(2);
+		assertThat(csv).startsWith("id,title,description,status,category,assignedToId,assignedToUsername,dueDate,");
+		assertThat(csv).contains(",Plain,,PENDING,HOUSEHOLD," + user.getId() + ",export_user,2030-01-15,");
+		assertThat(csv).contains(",\"Buy milk, eggs\",\"Say \"\"please\"\"\nand thanks\",PENDING,");
+	}
+
+	private void createTodo(String title, String description) {
+		Todo todo = TestData.todo(title, user);
+		todo.setDescription(description);
+		todo.setDueDate(LocalDate.of(2030, 1, 15));
+		todoRepository.save(todo);
+	}
+}
@@ -0,0 +1,92 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TodoSearchTests {
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void setUp() {
+		alice = createUser("search_alice");
+		bob = createUser("search_bob");
+	}
+
+	@Test
+	void titleMatchesRankAboveDescriptionMatches() {
+		createTodo("Water the plants", "In the garden", alice);
+		createTodo("Buy soil", "For watering the garden plants", alice);
+		createTodo("Clean kitchen", "Wipe the counters", alice);
+
+		assertThat(todoService.searchTodosByUsername("search_alice", "garden", 20))
+				.extracting(TodoDto::getTitle)
+				.containsExactly("Water the plants", "Buy soil");
+		assertThat(todoService.searchTodosByUsername("search_alice", "plants", 20))
+				.extracting(TodoDto::getTitle)
+				.containsExactly("Water the plants", "Buy soil");
+	}
+
+	@Test
+	void matchesPrefixesOfEveryTerm() {
+		createTodo("Clean kitchen", null, alice);
+		createTodo("Clean bathroom", null, alice);
+
+		assertThat(todoService.searchTodosByUsername("search_alice", "cle kit", 20))
+				.extracting(TodoDto::getTitle)
+				.containsExactly("Clean kitchen");
+	}
+
+	@Test
+	void onlySearchesTodosOfTheUserUnlessAdmin() {
+		createTodo("Fix the fence", null, alice);
+		createTodo("Paint the fence", null, bob);
+
+		assertThat(todoService.searchTodosByUsername("search_alice", "fence", 20))
+				.extracting(TodoDto::getTitle)
+				.containsExactly("Fix the fence");
+		assertThat(todoService.searchTodos("fence", 20)).hasSize(2);
+	}
+
+	@Test
+	void ignoresQueriesWithoutWords() {
+		createTodo("Fix the fence", null, alice);
+
+		assertThat(todoService.searchTodos("  &|! ", 20)).isEmpty();
+	}
+
+	private User createUser(String username) {
+		return userRepository.save(TestData.user(username));
+	}
+
+	private void createTodo(String title, String description, User assignee) {
+		Todo todo = TestData.todo(title, assignee);
+		todo.setDescription(description);
+		todoRepository.save(todo);
+	}
+}
@@ -0,0 +1,222 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.BulkTodoRequest;
+import com.homemanagement.dto.BulkTodoResultDto;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.TodoFilter;
+import com.homemanagement.dto.TodoPageDto;
+import com.homemanagement.exception.BadRequestException;
+import com.homemanagement.exception.ResourceNotFoundException;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.UserPrincipal;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TodoServiceTests {
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void setUp() {
+		alice = createUser("alice");
+		bob = createUser("bob");
+	}
+
+	@Test
+	void pagesThroughAllTodosInDueDateOrderWithNullsLast() {
+		LocalDate today = LocalDate.now();
+		createTodo("no date 1", alice, Todo.TodoStatus.PENDING, null);
+		createTodo("later", alice, Todo.TodoStatus.PENDING, today.plusDays(3));
+		createTodo("first", alice, Todo.TodoStatus.COMPLETED, today);
+		createTodo("no date 2", alice, Todo.TodoStatus.PENDING, null);
+		createTodo("same day", alice, Todo.TodoStatus.PENDING, today);
+		createTodo("other user", bob, Todo.TodoStatus.PENDING, today);
+
+		List<String> titles = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			TodoPageDto page = todoService.getTodosPageByUsername("alice", new TodoFilter(), cursor, 2);
+			page.getItems().forEach(todo -> titles.add(todo.getTitle()));
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(titles).containsExactly("first", "same day", "later", "no date 1", "no date 2");
+		assertThat(pages).isEqualTo(3);
+	}
+
+	@Test
+	void filtersByStatusAndDueDateRange() {
+		LocalDate today = LocalDate.now();
+		createTodo("pending today", alice, Todo.TodoStatus.PENDING, today);
+		createTodo("pending next week", alice, Todo.TodoStatus.PENDING, today.plusDays(7));
+		createTodo("completed today", alice, Todo.TodoStatus.COMPLETED, today);
+		createTodo("bob pending today", bob, Todo.TodoStatus.PENDING, today);
+
+		TodoFilter filter = new TodoFilter();
+		filter.setStatus(Todo.TodoStatus.PENDING);
+		filter.setDueTo(today.plusDays(1));
+		filter.setAssignedToId(alice.getId());
+
+		TodoPageDto page = todoService.getTodosPage(filter, null, 20);
+
+		assertThat(page.getItems()).extracting(TodoDto::getTitle).containsExactly("pending today");
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void userPagesIgnoreTheAssigneeOfTheFilterWithoutChangingIt() {
+		createTodo("mine", alice, Todo.TodoStatus.PENDING, null);
+		createTodo("not mine", bob, Todo.TodoStatus.PENDING, null);
+		TodoFilter filter = new TodoFilter();
+		filter.setAssignedToId(bob.getId());
+
+		TodoPageDto page = todoService.getTodosPageByUsername("alice", filter, null, 20);
+
+		assertThat(page.getItems()).extracting(TodoDto::getTitle).containsExactly("mine");
+		assertThat(filter.getAssignedToId()).isEqualTo(bob.getId());
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThatThrownBy(() -> todoService.getTodosPage(new TodoFilter(), "not-a-cursor", 20))
+				.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void rejectsDueDateRangeEndingBeforeItStarts() {
+		TodoFilter filter = new TodoFilter();
+		filter.setDueFrom(LocalDate.of(2030, 2, 1));
+		filter.setDueTo(LocalDate.of(2030, 1, 1));
+
+		assertThatThrownBy(() -> todoService.getTodosPage(filter, null, 20))
+				.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void bulkStatusUpdateSkipsTodosOwnedByOthers() {
+		Todo own = createTodo("own", alice, Todo.TodoStatus.PENDING, null);
+		Todo foreign = createTodo("foreign", bob, Todo.TodoStatus.PENDING, null);
+
+		BulkTodoRequest request = new BulkTodoRequest();
+		request.setAction(BulkTodoRequest.Action.UPDATE_STATUS);
+		request.setStatus(Todo.TodoStatus.COMPLETED);
+		request.setIds(List.of(own.getId(), foreign.getId(), -1L));
+
+		List<BulkTodoResultDto> results = todoService.applyBulkAction(request, UserPrincipal.from(alice));
+
+		assertThat(results).extracting(BulkTodoResultDto::getId)
+				.containsExactly(own.getId(), foreign.getId(), -1L);
+		assertThat(results).extracting(BulkTodoResultDto::isSuccess).containsExactly(true, false, false);
+		assertThat(own.getStatus()).isEqualTo(Todo.TodoStatus.COMPLETED);
+		assertThat(own.getCompletedAt()).isNotNull();
+		assertThat(foreign.getStatus()).isEqualTo(Todo.TodoStatus.PENDING);
+	}
+
+	@Test
+	void bulkDeleteRemovesOwnTodos() {
+		Todo first = createTodo("first", alice, Todo.TodoStatus.PENDING, null);
+		Todo second = createTodo("second", alice, Todo.TodoStatus.PENDING, null);
+
+		BulkTodoRequest request = new BulkTodoRequest();
+		request.setAction(BulkTodoRequest.Action.DELETE);
+		request.setIds(List.of(first.getId(), second.getId()));
+
+		todoService.applyBulkAction(request, UserPrincipal.from(alice));
+
+		assertThat(todoRepository.findAllById(List.of(first.getId(), second.getId()))).isEmpty();
+	}
+
+	@Test
+	void bulkReassignToAnotherUserRequiresAdmin() {
+		Todo own = createTodo("own", alice, Todo.TodoStatus.PENDING, null);
+
+		BulkTodoRequest request = new BulkTodoRequest();
+		request.setAction(BulkTodoRequest.Action.REASSIGN);
+		request.setAssignedToId(bob.getId());
+		request.setIds(List.of(own.getId()));
+
+		assertThatThrownBy(() -> todoService.applyBulkAction(request, UserPrincipal.from(alice)))
+				.isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void updateOfOwnTodoCostsOneSelectAndOneUpdate() {
+		Todo own = createTodo("own", alice, Todo.TodoStatus.PENDING, null);
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		TodoDto update = new TodoDto();
+		update.setTitle("renamed");
+		update.setStatus(Todo.TodoStatus.IN_PROGRESS);
+		todoService.updateTodo(own.getId(), update, UserPrincipal.from(alice));
+		entityManager.flush();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(todoRepository.findById(own.getId()).orElseThrow().getTitle()).isEqualTo("renamed");
+	}
+
+	@Test
+	void updateOfForeignTodoIsDeniedAndMissingTodoIsNotFound() {
+		Todo foreign = createTodo("foreign", bob, Todo.TodoStatus.PENDING, null);
+		TodoDto update = new TodoDto();
+		update.setTitle("renamed");
+		update.setStatus(Todo.TodoStatus.PENDING);
+
+		assertThatThrownBy(() -> todoService.updateTodo(foreign.getId(), update, UserPrincipal.from(alice)))
+				.isInstanceOf(AccessDeniedException.class);
+		assertThatThrownBy(() -> todoService.deleteTodo(-1L, UserPrincipal.from(alice)))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	private User createUser(String username) {
+		return userRepository.save(TestData.user(username));
+	}
+
+	private Todo createTodo(String title, User assignee, Todo.TodoStatus status, LocalDate dueDate) {
+		Todo todo = TestData.todo(title, assignee);
+		todo.setStatus(status);
+		todo.setDueDate(dueDate);
+		return todoRepository.save(todo);
+	}
+}
@@ -0,0 +1,159 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.TodoStatisticsDto;
+import com.homemanagement.mapper.TodoMapper;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.TodoStatisticsRow;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class TodoStatisticsServiceTests {
+
+	@Autowired
+	private TodoStatisticsService todoStatisticsService;
+
+	@Autowired
+	private TodoService todoService;
+
+	@MockitoSpyBean
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoMapper todoMapper;
+
+	@Autowired
+	private ApplicationEvents events;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(TestData.user("stats_user"));
+	}
+
+	@Test
+	void reconciliationCountsStatusCategoryAndOverdue() {
+		LocalDate today = LocalDate.now();
+		createTodo(Todo.TodoStatus.PENDING, Todo.TodoCategory.GARDEN, today.minusDays(2));
+		createTodo(Todo.TodoStatus.IN_PROGRESS, Todo.TodoCategory.GARDEN, today.plusDays(2));
+		createTodo(Todo.TodoStatus.COMPLETED, Todo.TodoCategory.CLEANING, today.minusDays(5));
+		createTodo(Todo.TodoStatus.PENDING, Todo.TodoCategory.CLEANING, null);
+
+		todoStatisticsService.reconcile();
+		TodoStatisticsDto statistics = todoStatisticsService.getStatisticsByUsername("stats_user");
+
+		assertThat(statistics.getTotal()).isEqualTo(4);
+		assertThat(statistics.getCountsByStatus())
+				.containsEntry(Todo.TodoStatus.PENDING, 2L)
+				.containsEntry(Todo.TodoStatus.IN_PROGRESS, 1L)
+				.containsEntry(Todo.TodoStatus.COMPLETED, 1L);
+		assertThat(statistics.getCountsByCategory())
+				.containsEntry(Todo.TodoCategory.GARDEN, 2L)
+				.containsEntry(Todo.TodoCategory.CLEANING, 2L);
+		assertThat(statistics.getOverdue()).isEqualTo(1);
+		assertThat(statistics.getCompletionRate()).isEqualTo(0.25);
+	}
+
+	@Test
+	void incrementalUpdatesMatchReconciliation() {
+		LocalDate today = LocalDate.now();
+		Todo first = createTodo(Todo.TodoStatus.PENDING, Todo.TodoCategory.GARDEN, today.minusDays(1));
+		Todo second = createTodo(Todo.TodoStatus.PENDING, Todo.TodoCategory.HOUSEHOLD, today.minusDays(1));
+		createTodo(Todo.TodoStatus.IN_PROGRESS, Todo.TodoCategory.HOUSEHOLD, today);
+		todoStatisticsService.reconcile();
+
+		TodoDto completed = todoMapper.toDto(first);
+		completed.setStatus(Todo.TodoStatus.COMPLETED);
+		todoService.updateTodo(first.getId(), completed, UserPrincipal.from(user));
+		todoService.deleteTodo(second.getId(), UserPrincipal.from(user));
+		TodoDto created = new TodoDto();
+		created.setTitle("new");
+		created.setStatus(Todo.TodoStatus.PENDING);
+		created.setCategory(Todo.TodoCategory.OTHER);
+		created.setAssignedToId(user.getId());
+		todoService.createTodo(created, UserPrincipal.from(user));
+
+		// Events are only delivered on commit, which never happens in this test
+		events.stream(TodoChangedEvent.class).forEach(todoStatisticsService::onTodoChanged);
+		TodoStatisticsDto incremental = todoStatisticsService.getStatisticsByUsername("stats_user");
+
+		todoRepository.flush();
+		todoStatisticsService.reconcile();
+		TodoStatisticsDto reconciled = todoStatisticsService.getStatisticsByUsername("stats_user");
+
+		assertThat(incremental.getTotal()).isEqualTo(3);
+		assertThat(incremental.getOverdue()).isZero();
+		assertThat(incremental.getAverageCompletionSeconds()).isNotNull();
+		assertThat(incremental).usingRecursiveComparison()
+				.ignoringFields("averageCompletionSeconds")
+				.isEqualTo(reconciled);
+		assertThat(reconciled.getAverageCompletionSeconds()).isNotNull();
+	}
+
+	@Test
+	void changesCommittedWhileReconcilingAreCountedOnce() {
+		Todo todo = createTodo(Todo.TodoStatus.PENDING, Todo.TodoCategory.GARDEN, null);
+		TodoDto pending = todoMapper.toDto(todo);
+		todo.setStatus(Todo.TodoStatus.COMPLETED);
+		todoRepository.flush();
+		TodoDto completed = todoMapper.toDto(todo);
+		TodoDto uncommitted = new TodoDto();
+		uncommitted.setId(Long.MAX_VALUE);
+		uncommitted.setStatus(Todo.TodoStatus.PENDING);
+		uncommitted.setCategory(Todo.TodoCategory.OTHER);
+		uncommitted.setAssignedToUsername("stats_user");
+
+		// The completion is in the snapshot but its event only arrives once the queries have started;
+		// the creation committed after the snapshot was taken
+		List<TodoStatisticsRow> snapshot = todoRepository.summarizeByAssignee();
+		doAnswer(invocation -> {
+			todoStatisticsService.onTodoChanged(TodoChangedEvent.updated(pending, completed));
+			todoStatisticsService.onTodoChanged(TodoChangedEvent.created(uncommitted));
+			return snapshot;
+		}).when(todoRepository).summarizeByAssignee();
+		todoStatisticsService.reconcile();
+		TodoStatisticsDto statistics = todoStatisticsService.getStatisticsByUsername("stats_user");
+
+		assertThat(statistics.getTotal()).isEqualTo(2);
+		assertThat(statistics.getCountsByStatus())
+				.containsEntry(Todo.TodoStatus.COMPLETED, 1L)
+				.containsEntry(Todo.TodoStatus.PENDING, 1L);
+		assertThat(statistics.getCountsByCategory())
+				.containsEntry(Todo.TodoCategory.GARDEN, 1L)
+				.containsEntry(Todo.TodoCategory.OTHER, 1L);
+	}
+
+	private Todo createTodo(Todo.TodoStatus status, Todo.TodoCategory category, LocalDate dueDate) {
+		Todo todo = TestData.todo(status + " " + category, user);
+		todo.setStatus(status);
+		todo.setCategory(category);
+		todo.setDueDate(dueDate);
+		return todoRepository.save(todo);
+	}
+}
@@ -0,0 +1,108 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.BulkTodoRequest;
+import com.homemanagement.dto.TodoDeltaDto;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.RoleConstants;
+import com.homemanagement.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TodoSyncServiceTests {
+
+	@Autowired
+	private TodoSyncService todoSyncService;
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User alice;
+	private User bob;
+	private User admin;
+
+	@BeforeEach
+	void setUp() {
+		alice = createUser("sync_alice", RoleConstants.USER);
+		bob = createUser("sync_bob", RoleConstants.USER);
+		admin = createUser("sync_admin", RoleConstants.ADMIN);
+	}
+
+	@Test
+	void deltaReportsChangedDeletedAndReassignedTodos() {
+		long since = Instant.now().minus(1, ChronoUnit.MINUTES).toEpochMilli();
+		Todo kept = createTodo("kept", alice);
+		Todo removed = createTodo("removed", alice);
+		Todo handedOver = createTodo("handed over", alice);
+
+		todoService.deleteTodo(removed.getId(), UserPrincipal.from(alice));
+		BulkTodoRequest reassign = new BulkTodoRequest();
+		reassign.setAction(BulkTodoRequest.Action.REASSIGN);
+		reassign.setAssignedToId(bob.getId());
+		reassign.setIds(List.of(handedOver.getId()));
+		todoService.applyBulkAction(reassign, UserPrincipal.from(admin));
+
+		TodoDeltaDto aliceDelta = todoSyncService.getChangesByUsername("sync_alice", since);
+		TodoDeltaDto bobDelta = todoSyncService.getChangesByUsername("sync_bob", since);
+
+		assertThat(aliceDelta.isFull()).isFalse();
+		assertThat(aliceDelta.getChanged()).extracting(TodoDto::getId).containsExactly(kept.getId());
+		assertThat(aliceDelta.getDeleted()).containsExactlyInAnyOrder(removed.getId(), handedOver.getId());
+		assertThat(bobDelta.getChanged()).extracting(TodoDto::getId).containsExactly(handedOver.getId());
+		assertThat(bobDelta.getDeleted()).isEmpty();
+	}
+
+	@Test
+	void deletedTodosAreHiddenFromRegularQueries() {
+		Todo removed = createTodo("removed", alice);
+
+		todoService.deleteTodo(removed.getId(), UserPrincipal.from(alice));
+
+		assertThat(todoService.getTodosByUsername("sync_alice")).isEmpty();
+		assertThat(todoRepository.existsById(removed.getId())).isFalse();
+	}
+
+	@Test
+	void versionsOlderThanRetentionGetTheFullList() {
+		Todo kept = createTodo("kept", alice);
+		Todo removed = createTodo("removed", alice);
+		todoService.deleteTodo(removed.getId(), UserPrincipal.from(alice));
+
+		TodoDeltaDto delta = todoSyncService.getChangesByUsername("sync_alice", 0);
+
+		assertThat(delta.isFull()).isTrue();
+		assertThat(delta.getChanged()).extracting(TodoDto::getId).containsExactly(kept.getId());
+		assertThat(delta.getDeleted()).isEmpty();
+	}
+
+	private User createUser(String username, String role) {
+		return userRepository.save(TestData.user(username, role));
+	}
+
+	private Todo createTodo(String title, User assignee) {
+		return todoRepository.save(TestData.todo(title, assignee));
+	}
+}
@@ -0,0 +1,154 @@
+package com.homemanagement.rest.service;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.RecurrenceRule;
+import com.homemanagement.domain.Todo;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.TodoDto;
+import com.homemanagement.dto.UserDetailDto;
+import com.homemanagement.rest.repository.RecurrenceRuleRepository;
+import com.homemanagement.rest.repository.TodoRepository;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.security.UserPrincipal;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserServiceTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private RecurrenceRuleRepository recurrenceRuleRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void detailedUserListingUsesFixedStatementCountRegardlessOfUserCount() {
+		createUsersWithTodos(0, 2);
+		long fewUsers = countStatements(() -> userService.getAllUsersDetailed());
+
+		createUsersWithTodos(2, 20);
+		long manyUsers = countStatements(() -> userService.getAllUsersDetailed());
+
+		assertThat(fewUsers).isLessThanOrEqualTo(2);
+		assertThat(manyUsers).isEqualTo(fewUsers);
+	}
+
+	@Test
+	void detailedUserIncludesCountsByStatus() {
+		User user = createUser("counted");
+		createTodo(user, Todo.TodoStatus.PENDING);
+		createTodo(user, Todo.TodoStatus.PENDING);
+		createTodo(user, Todo.TodoStatus.COMPLETED);
+		entityManager.flush();
+		entityManager.clear();
+
+		UserDetailDto single = userService.getUserDetailById(user.getId());
+		UserDetailDto listed = userService.getAllUsersDetailed().stream()
+				.filter(dto -> dto.getId().equals(user.getId()))
+				.findFirst()
+				.orElseThrow();
+
+		for (UserDetailDto dto : List.of(single, listed)) {
+			assertThat(dto.getTodoCount()).isEqualTo(3);
+			assertThat(dto.getTodoCountsByStatus())
+					.containsEntry(Todo.TodoStatus.PENDING, 2L)
+					.containsEntry(Todo.TodoStatus.COMPLETED, 1L)
+					.doesNotContainKey(Todo.TodoStatus.IN_PROGRESS);
+		}
+	}
+
+	@Test
+	void deletingAUserPurgesTheTombstonesOfTheirTodos() {
+		User user = createUser("leaving");
+		TodoDto todoDto = new TodoDto();
+		todoDto.setTitle("Last chore");
+		todoDto.setAssignedToId(user.getId());
+		TodoDto created = todoService.createTodo(todoDto, UserPrincipal.from(user));
+		todoService.deleteTodo(created.getId(), UserPrincipal.from(user));
+
+		userService.deleteUser(user.getId());
+		entityManager.flush();
+
+		assertThat(userRepository.findById(user.getId())).isEmpty();
+		assertThat(todoRepository.findChangedSinceIncludingDeleted(user.getId(), Instant.EPOCH)).isEmpty();
+	}
+
+	@Test
+	void deletingAUserDeletesTheirRecurringTodos() {
+		User user = createUser("rule_owner");
+		RecurrenceRule rule = new RecurrenceRule();
+		rule.setTitle("Take out the bins");
+		rule.setAssignedTo(user);
+		rule.setFrequency(RecurrenceRule.Frequency.WEEKLY);
+		rule.setStartDate(LocalDate.now());
+		rule.setNextOccurrence(LocalDate.now());
+		rule = recurrenceRuleRepository.save(rule);
+
+		userService.deleteUser(user.getId());
+		entityManager.flush();
+
+		assertThat(userRepository.findById(user.getId())).isEmpty();
+		assertThat(recurrenceRuleRepository.findById(rule.getId())).isEmpty();
+	}
+
+	private long countStatements(Runnable action) {
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void createUsersWithTodos(int from, int to) {
+		for (int i = from; i < to; i++) {
+			User user = createUser("user" + i);
+			createTodo(user, Todo.TodoStatus.PENDING);
+			createTodo(user, Todo.TodoStatus.COMPLETED);
+		}
+	}
+
+	private User createUser(String username) {
+		return userRepository.save(TestData.user(username));
+	}
+
+	private void createTodo(User assignee, Todo.TodoStatus status) {
+		Todo todo = TestData.todo("Todo for " + assignee.getUsername(), assignee);
+		todo.setStatus(status);
+		todoRepository.save(todo);
+	}
+}
@@ -0,0 +1,93 @@
+package com.homemanagement.security;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.User;
+import com.homemanagement.dto.UpdateUserRequest;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.rest.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthenticationCacheTests {
+
+	@Autowired
+	private AuthenticationCache authenticationCache;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final List<User> users = new ArrayList<>();
+
+	@AfterEach
+	void deleteData() {
+		userRepository.deleteAllInBatch(users);
+	}
+
+	@Test
+	void servesRepeatedLookupsFromCacheAndRecordsHits() {
+		createUser("cached_user");
+		double hitsBefore = cacheGets("hit");
+
+		UserDetails first = authenticationCache.getUserDetails("cached_user");
+		UserDetails second = authenticationCache.getUserDetails("cached_user");
+
+		assertThat(second).isSameAs(first);
+		assertThat(second.getPassword()).isEmpty();
+		assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 1);
+	}
+
+	@Test
+	void roleChangeEvictsCachedEntry() {
+		User user = createUser("promoted_user");
+		assertThat(roles(authenticationCache.getUserDetails("promoted_user")))
+				.containsExactly(RoleConstants.USER);
+
+		UpdateUserRequest request = new UpdateUserRequest();
+		request.setRoles(Set.of(RoleConstants.ADMIN));
+		userService.updateUser(user.getId(), request);
+
+		assertThat(roles(authenticationCache.getUserDetails("promoted_user")))
+				.containsExactly(RoleConstants.ADMIN);
+	}
+
+	private double cacheGets(String result) {
+		return meterRegistry.get("cache.gets")
+				.tag("cache", AuthenticationCache.USER_DETAILS)
+				.tag("result", result)
+				.functionCounter()
+				.count();
+	}
+
+	private Set<String> roles(UserDetails userDetails) {
+		return userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toSet());
+	}
+
+	private User createUser(String username) {
+		User saved = userRepository.save(TestData.user(username));
+		users.add(saved);
+		return saved;
+	}
+}
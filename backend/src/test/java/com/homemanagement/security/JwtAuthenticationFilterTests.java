@@ -0,0 +1,95 @@
+package com.homemanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homemanagement.TestData;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.UserRepository;
+import com.homemanagement.rest.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "jwt.stateless=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	private final List<User> users = new ArrayList<>();
+
+	@AfterEach
+	void deleteData() {
+		userRepository.deleteAllInBatch(users);
+	}
+
+	@Test
+	void statelessTokenAuthenticatesUntilRevoked() throws Exception {
+		User user = createUser("stateless_user", RoleConstants.USER);
+		String token = login("stateless_user");
+
+		mockMvc.perform(get("/api/todos/my").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + token))
+				.andExpect(status().isForbidden());
+
+		userService.resetUserPassword(user.getId(), "another-password");
+
+		mockMvc.perform(get("/api/todos/my").header("Authorization", "Bearer " + token))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void adminRoleIsTakenFromClaims() throws Exception {
+		createUser("stateless_admin", RoleConstants.ADMIN);
+		String token = login("stateless_admin");
+
+		mockMvc.perform(get("/api/todos").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+	}
+
+	private String login(String username) throws Exception {
+		String body = objectMapper.writeValueAsString(Map.of("username", username, "password", "password123"));
+		String response = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response).get("token").asText();
+	}
+
+	private User createUser(String username, String role) {
+		User user = TestData.user(username, role);
+		user.setPassword(passwordEncoder.encode("password123"));
+		User saved = userRepository.save(user);
+		users.add(saved);
+		return saved;
+	}
+}
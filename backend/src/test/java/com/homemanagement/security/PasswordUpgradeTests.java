@@ -0,0 +1,85 @@
+package com.homemanagement.security;
+
+import com.homemanagement.TestData;
+import com.homemanagement.domain.User;
+import com.homemanagement.rest.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PasswordUpgradeTests {
+
+	@Autowired
+	private AuthenticationManager authenticationManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Test
+	void loginUpgradesLegacyHashAndKeepsPasswordValid() {
+		createUser("legacy_user", new BCryptPasswordEncoder(4).encode("password123"));
+
+		authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("legacy_user", "password123"));
+
+		String upgraded = userRepository.findByUsername("legacy_user").orElseThrow().getPassword();
+		assertThat(upgraded).startsWith("{bcrypt}");
+		assertThat(passwordEncoder.upgradeEncoding(upgraded)).isFalse();
+		assertThat(passwordEncoder.matches("password123", upgraded)).isTrue();
+	}
+
+	@Test
+	void failedLoginLeavesHashUntouched() {
+		String legacy = new BCryptPasswordEncoder(4).encode("password123");
+		createUser("legacy_user", legacy);
+
+		assertThatThrownBy(() -> authenticationManager.authenticate(
+				new UsernamePasswordAuthenticationToken("legacy_user", "wrong-password")))
+				.isInstanceOf(BadCredentialsException.class);
+
+		assertThat(userRepository.findByUsername("legacy_user").orElseThrow().getPassword()).isEqualTo(legacy);
+	}
+
+	@Test
+	void hashesOfOtherAlgorithmsAndLowerCostsAreUpgraded() {
+		PasswordEncoder pbkdf2 = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 10_000);
+		PasswordEncoder strongerPbkdf2 = PasswordEncoderFactory.create(PasswordEncoderFactory.PBKDF2, 4, 20_000);
+		String hash = pbkdf2.encode("password123");
+
+		assertThat(hash).startsWith("{pbkdf2}10000$");
+		assertThat(strongerPbkdf2.matches("password123", hash)).isTrue();
+		assertThat(strongerPbkdf2.upgradeEncoding(hash)).isTrue();
+		assertThat(pbkdf2.upgradeEncoding(hash)).isFalse();
+		assertThat(passwordEncoder.matches("password123", hash)).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(hash)).isTrue();
+	}
+
+	@Test
+	void calibrationStaysWithinBounds() {
+		assertThat(PasswordEncoderFactory.calibrateBCryptStrength(Duration.ofNanos(1))).isEqualTo(4);
+		assertThat(PasswordEncoderFactory.calibrateBCryptStrength(Duration.ofMillis(50))).isBetween(4, 12);
+	}
+
+	private void createUser(String username, String passwordHash) {
+		User user = TestData.user(username);
+		user.setPassword(passwordHash);
+		userRepository.save(user);
+	}
+}
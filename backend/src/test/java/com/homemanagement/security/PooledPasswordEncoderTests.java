@@ -0,0 +1,83 @@
+package com.homemanagement.security;
+
+import com.homemanagement.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class PooledPasswordEncoderTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BlockingEncoder(), 1, 1, registry);
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		encoder.destroy();
+	}
+
+	@Test
+	void rejectsOperationsBeyondThreadsAndQueue() {
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> gauge("security.password.hash.active") == 1);
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("second", "second"));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> gauge("security.password.hash.queue.size") == 1);
+
+		assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(ServiceOverloadedException.class);
+		assertThat(registry.get("security.password.hash.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(running.join()).isEqualTo("first");
+		assertThat(queued.join()).isTrue();
+		assertThat(registry.get("security.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+		assertThat(registry.get("security.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+		assertThat(registry.get("security.password.hash.queue.wait").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void propagatesDelegateFailures() {
+		release.countDown();
+
+		assertThatThrownBy(() -> encoder.encode("")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private double gauge(String name) {
+		return registry.get(name).gauge().value();
+	}
+
+	private class BlockingEncoder implements PasswordEncoder {
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			if (rawPassword.isEmpty()) {
+				throw new IllegalArgumentException("Empty password");
+			}
+			awaitRelease();
+			return rawPassword.toString();
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			awaitRelease();
+			return rawPassword.toString().equals(encodedPassword);
+		}
+
+		private void awaitRelease() {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}